@@ -3,6 +3,15 @@ import { Avatar, MantineSize } from '@mantine/core'
 import { getAvatar } from '../../utils/user'
 import { BoxProps } from '@mantine/core/lib/core'
 
+// pixel sizes of the mantine avatar presets
+const AVATAR_SIZES: Record<MantineSize, number> = {
+  xs: 16,
+  sm: 26,
+  md: 38,
+  lg: 56,
+  xl: 84,
+}
+
 interface ICustomAvatarProps extends BoxProps {
   user: ILightUser
   size?: MantineSize | number
@@ -11,9 +20,12 @@ interface ICustomAvatarProps extends BoxProps {
 const CustomAvatar = (props: ICustomAvatarProps) => {
   const { user, size, ...other } = props
 
+  // request twice the displayed size so the avatar stays sharp on high density screens
+  const pixels = typeof size === 'number' ? size : AVATAR_SIZES[size ?? 'md']
+
   return (
     <Avatar
-      src={getAvatar(user)}
+      src={getAvatar(user, pixels * 2)}
       name={`${user.firstName} ${user.lastName}`}
       color='initials'
       size={size}
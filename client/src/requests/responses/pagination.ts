@@ -5,4 +5,5 @@ export interface PaginationResponse<T> {
   totalElements: number
   totalPages: number
   last: boolean
+  nextCursor?: string | null
 }
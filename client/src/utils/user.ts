@@ -1,8 +1,8 @@
 import { GLOBAL_CONFIG } from '../config/global'
 import { ILightUser } from '../requests/responses/user'
 
-export function getAvatar(user: ILightUser) {
+export function getAvatar(user: ILightUser, size?: number) {
   return user.avatar && !user.avatar.startsWith('http')
-    ? `${GLOBAL_CONFIG.server_host}/api/v2/avatars/${user.userId}?filename=${user.avatar}`
+    ? `${GLOBAL_CONFIG.server_host}/api/v2/avatars/${user.userId}?filename=${user.avatar}${size ? `&size=${size}` : ''}`
     : user.avatar || undefined
 }
@@ -0,0 +1,49 @@
+package de.tum.cit.aet.thesis.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessCheckBenchmark {
+    private Thesis thesis;
+    private User student;
+    private User advisor;
+    private User outsider;
+
+    @Setup
+    public void setUp() {
+        student = BenchmarkFixtures.createStudent("Student");
+        advisor = EntityMockFactory.createUserWithGroup("Advisor", "advisor");
+        outsider = EntityMockFactory.createUserWithGroup("Outsider", "student");
+        thesis = BenchmarkFixtures.createThesis(student, advisor, EntityMockFactory.createUserWithGroup("Supervisor", "supervisor"));
+    }
+
+    @Benchmark
+    public boolean hasReadAccessAsStudent() {
+        return thesis.hasReadAccess(student);
+    }
+
+    @Benchmark
+    public boolean hasReadAccessAsOutsider() {
+        return thesis.hasReadAccess(outsider);
+    }
+
+    @Benchmark
+    public boolean hasAdvisorAccess() {
+        return thesis.hasAdvisorAccess(advisor);
+    }
+
+    @Benchmark
+    public boolean hasAnyGroup() {
+        return outsider.hasAnyGroup("admin", "supervisor", "advisor");
+    }
+}
@@ -0,0 +1,94 @@
+package de.tum.cit.aet.thesis.benchmark;
+
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.constants.ThesisVisibility;
+import de.tum.cit.aet.thesis.entity.Application;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.entity.ThesisRole;
+import de.tum.cit.aet.thesis.entity.ThesisStateChange;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.entity.key.ThesisStateChangeId;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// fixed timestamps keep the fixtures identical between runs, so results of different releases stay comparable
+final class BenchmarkFixtures {
+    static final Instant CREATED_AT = Instant.parse("2025-01-15T10:00:00Z");
+
+    private BenchmarkFixtures() {}
+
+    static User createStudent(String name) {
+        User user = EntityMockFactory.createUserWithGroup(name, "student");
+
+        user.setUniversityId(name.toLowerCase());
+        user.setMatriculationNumber("01234567");
+        user.setStudyDegree("MASTER");
+        user.setStudyProgram("COMPUTER_SCIENCE");
+        user.setEnrolledAt(CREATED_AT.minus(Duration.ofDays(400)));
+        user.setJoinedAt(CREATED_AT);
+
+        return user;
+    }
+
+    static Thesis createThesis(User student, User advisor, User supervisor) {
+        Thesis thesis = EntityMockFactory.createThesis("Benchmarking Hot Paths of a Thesis Management System");
+        List<ThesisRole> roles = new ArrayList<>();
+
+        EntityMockFactory.setupThesisRole(thesis, student, ThesisRoleName.STUDENT);
+        roles.addAll(thesis.getRoles());
+        EntityMockFactory.setupThesisRole(thesis, advisor, ThesisRoleName.ADVISOR);
+        roles.addAll(thesis.getRoles());
+        EntityMockFactory.setupThesisRole(thesis, supervisor, ThesisRoleName.SUPERVISOR);
+        roles.addAll(thesis.getRoles());
+
+        Set<ThesisStateChange> states = new HashSet<>();
+
+        for (ThesisState state : List.of(ThesisState.PROPOSAL, ThesisState.WRITING, ThesisState.SUBMITTED)) {
+            ThesisStateChangeId id = new ThesisStateChangeId();
+            id.setThesisId(thesis.getId());
+            id.setState(state);
+
+            ThesisStateChange stateChange = new ThesisStateChange();
+            stateChange.setId(id);
+            stateChange.setThesis(thesis);
+            stateChange.setChangedAt(CREATED_AT.plus(Duration.ofDays(30L * state.ordinal())));
+
+            states.add(stateChange);
+        }
+
+        thesis.setRoles(roles);
+        thesis.setStates(states);
+        thesis.setState(ThesisState.SUBMITTED);
+        thesis.setType("MASTER");
+        thesis.setLanguage("ENGLISH");
+        thesis.setVisibility(ThesisVisibility.INTERNAL);
+        thesis.setKeywords(Set.of("benchmarks", "performance"));
+        thesis.setInfo("Info");
+        thesis.setAbstractField("Abstract");
+        thesis.setStartDate(CREATED_AT);
+        thesis.setEndDate(CREATED_AT.plus(Duration.ofDays(180)));
+        thesis.setCreatedAt(CREATED_AT);
+
+        return thesis;
+    }
+
+    static Application createApplication(User student) {
+        Application application = EntityMockFactory.createApplication();
+
+        application.setUser(student);
+        application.setThesisType("MASTER");
+        application.setMotivation("I would like to work on this topic because it matches my interests.");
+        application.setDesiredStartDate(CREATED_AT.plus(Duration.ofDays(30)));
+        application.setComment("");
+        application.setCreatedAt(CREATED_AT);
+
+        return application;
+    }
+}
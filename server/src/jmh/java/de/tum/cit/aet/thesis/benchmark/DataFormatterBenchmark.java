@@ -0,0 +1,58 @@
+package de.tum.cit.aet.thesis.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.dto.LightUserDto;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+import de.tum.cit.aet.thesis.utility.DataFormatter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataFormatterBenchmark {
+    private List<LightUserDto> users;
+
+    @Setup
+    public void setUp() {
+        users = List.of(
+                LightUserDto.fromUserEntity(EntityMockFactory.createUserWithGroup("Advisor", "advisor")),
+                LightUserDto.fromUserEntity(EntityMockFactory.createUserWithGroup("Supervisor", "supervisor"))
+        );
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DataFormatter.formatDate(BenchmarkFixtures.CREATED_AT);
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return DataFormatter.formatDateTime(BenchmarkFixtures.CREATED_AT);
+    }
+
+    @Benchmark
+    public String formatEnum() {
+        return DataFormatter.formatEnum(ThesisState.ASSESSED);
+    }
+
+    @Benchmark
+    public String formatUsers() {
+        return DataFormatter.formatUsers(users);
+    }
+
+    @Benchmark
+    public String formatConstantName() {
+        return DataFormatter.formatConstantName("COMPUTER_SCIENCE_AND_ENGINEERING");
+    }
+
+    @Benchmark
+    public String formatSemester() {
+        return DataFormatter.formatSemester(BenchmarkFixtures.CREATED_AT);
+    }
+}
@@ -0,0 +1,37 @@
+package de.tum.cit.aet.thesis.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import de.tum.cit.aet.thesis.dto.ThesisDto;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+    private Thesis thesis;
+
+    @Setup
+    public void setUp() {
+        thesis = BenchmarkFixtures.createThesis(
+                BenchmarkFixtures.createStudent("Student"),
+                EntityMockFactory.createUserWithGroup("Advisor", "advisor"),
+                EntityMockFactory.createUserWithGroup("Supervisor", "supervisor")
+        );
+    }
+
+    @Benchmark
+    public ThesisDto fromThesisEntity() {
+        return ThesisDto.fromThesisEntity(thesis, true, true);
+    }
+
+    @Benchmark
+    public ThesisDto fromThesisEntityWithoutProtectedData() {
+        return ThesisDto.fromThesisEntity(thesis, false, false);
+    }
+}
@@ -0,0 +1,113 @@
+package de.tum.cit.aet.thesis.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import de.tum.cit.aet.thesis.entity.Application;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.service.MailOutboxService;
+import de.tum.cit.aet.thesis.utility.MailBuilder;
+import de.tum.cit.aet.thesis.utility.MailConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MailBuilderBenchmark {
+    // renders the mails like the outbox would but drops them instead of persisting them
+    private static class NoOpMailOutboxService extends MailOutboxService {
+        private long enqueuedMails;
+
+        NoOpMailOutboxService(MailConfig config) {
+            super(null, null, config, null, null, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public MailOutboxEntry enqueue(
+                String subject,
+                String body,
+                List<String> toAddresses,
+                List<String> ccAddresses,
+                List<String> bccAddresses,
+                List<MailOutboxEntry.Attachment> attachments
+        ) {
+            enqueuedMails += body.length();
+
+            return null;
+        }
+    }
+
+    private MailConfig config;
+    private NoOpMailOutboxService outbox;
+    private Application application;
+    private List<User> recipients;
+
+    @Setup
+    public void setUp() throws AddressException {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("mail-templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        config = new MailConfig(
+                true,
+                new InternetAddress("thesis@example.com"),
+                "",
+                "Thesis Management",
+                "https://workspace.example.com",
+                "https://thesis.example.com",
+                templateEngine,
+                null
+        );
+        outbox = new NoOpMailOutboxService(config);
+
+        application = BenchmarkFixtures.createApplication(BenchmarkFixtures.createStudent("Student"));
+        recipients = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            recipients.add(BenchmarkFixtures.createStudent("Student" + i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        outbox.shutdown();
+    }
+
+    @Benchmark
+    public long sendApplicationConfirmation() {
+        new MailBuilder(config, "Thesis Application Confirmation", "application-created-student")
+                .addPrimaryRecipient(application.getUser())
+                .fillApplicationPlaceholders(application)
+                .send(outbox);
+
+        return outbox.enqueuedMails;
+    }
+
+    @Benchmark
+    public long sendApplicationConfirmationToManyRecipients() {
+        MailBuilder builder = new MailBuilder(config, "Thesis Application Confirmation", "application-created-student");
+
+        for (User recipient : recipients) {
+            builder.addPrimaryRecipient(recipient);
+        }
+
+        builder.fillApplicationPlaceholders(application).send(outbox);
+
+        return outbox.enqueuedMails;
+    }
+}
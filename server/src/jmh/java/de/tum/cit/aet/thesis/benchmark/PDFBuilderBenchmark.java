@@ -0,0 +1,30 @@
+package de.tum.cit.aet.thesis.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import de.tum.cit.aet.thesis.utility.PDFBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PDFBuilderBenchmark {
+    private static final String SECTION = "<p>The student worked <strong>independently</strong> and structured the thesis well.</p>" +
+            "<ul><li>Clear research question</li><li>Thorough evaluation</li></ul>";
+
+    @Benchmark
+    public byte[] buildAssessment() {
+        return new PDFBuilder("Assessment of \"Benchmarking Hot Paths of a Thesis Management System\"")
+                .addData("Student", "Student Student")
+                .addData("Advisor", "Advisor Advisor")
+                .addData("Supervisor", "Supervisor Supervisor")
+                .addSection("Summary", SECTION)
+                .addSection("Positives", SECTION)
+                .addSection("Negatives", SECTION)
+                .addSection("Grade Suggestion", "<p>1.3</p>")
+                .build();
+    }
+}
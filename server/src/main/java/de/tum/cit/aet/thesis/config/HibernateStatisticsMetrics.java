@@ -0,0 +1,77 @@
+package de.tum.cit.aet.thesis.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+// hibernate only collects statistics when hibernate.generate_statistics is enabled, the meters stay at zero otherwise
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+    private final Statistics statistics;
+
+    @Autowired
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate_statements", "prepared", Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate_statements", "closed", Statistics::getCloseStatementCount);
+        counter(registry, "hibernate_queries", "executed", Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate_entities", "loaded", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate_entities", "fetched", Statistics::getEntityFetchCount);
+        counter(registry, "hibernate_entities", "inserted", Statistics::getEntityInsertCount);
+        counter(registry, "hibernate_entities", "updated", Statistics::getEntityUpdateCount);
+        counter(registry, "hibernate_entities", "deleted", Statistics::getEntityDeleteCount);
+        counter(registry, "hibernate_collections", "loaded", Statistics::getCollectionLoadCount);
+        counter(registry, "hibernate_collections", "fetched", Statistics::getCollectionFetchCount);
+        counter(registry, "hibernate_second_level_cache_requests", "hit", Statistics::getSecondLevelCacheHitCount);
+        counter(registry, "hibernate_second_level_cache_requests", "miss", Statistics::getSecondLevelCacheMissCount);
+        counter(registry, "hibernate_second_level_cache_puts", null, Statistics::getSecondLevelCachePutCount);
+        counter(registry, "hibernate_transactions", "committed", Statistics::getSuccessfulTransactionCount);
+        counter(registry, "hibernate_transactions", "total", Statistics::getTransactionCount);
+        counter(registry, "hibernate_flushes", null, Statistics::getFlushCount);
+        counter(registry, "hibernate_optimistic_failures", null, Statistics::getOptimisticFailureCount);
+
+        Gauge.builder("hibernate_query_execution_max_seconds", statistics, stats -> stats.getQueryExecutionMaxTime() / 1000.0)
+                .description("Slowest query since the statistics were last cleared")
+                .register(registry);
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            regionCounter(registry, region, "hit", CacheRegionStatistics::getHitCount);
+            regionCounter(registry, region, "miss", CacheRegionStatistics::getMissCount);
+            regionCounter(registry, region, "put", CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String event, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, value);
+
+        if (event != null) {
+            builder.tag("event", event);
+        }
+
+        builder.register(registry);
+    }
+
+    private void regionCounter(MeterRegistry registry, String region, String event, ToDoubleFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder("hibernate_cache_region_requests", statistics, stats -> {
+                    CacheRegionStatistics regionStatistics = stats.getDomainDataRegionStatistics(region);
+
+                    return regionStatistics == null ? 0 : value.applyAsDouble(regionStatistics);
+                })
+                .tag("region", region)
+                .tag("event", event)
+                .register(registry);
+    }
+}
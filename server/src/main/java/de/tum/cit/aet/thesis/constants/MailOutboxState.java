@@ -0,0 +1,15 @@
+package de.tum.cit.aet.thesis.constants;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum MailOutboxState {
+    PENDING("PENDING"),
+    SENDING("SENDING"),
+    SENT("SENT"),
+    FAILED("FAILED");
+
+    private final String value;
+}
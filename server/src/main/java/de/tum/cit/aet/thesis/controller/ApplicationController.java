@@ -3,14 +3,17 @@ package de.tum.cit.aet.thesis.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 import de.tum.cit.aet.thesis.constants.ApplicationState;
 import de.tum.cit.aet.thesis.constants.StringLimits;
 import de.tum.cit.aet.thesis.controller.payload.*;
 import de.tum.cit.aet.thesis.dto.ApplicationDto;
+import de.tum.cit.aet.thesis.dto.ApplicationSummaryDto;
 import de.tum.cit.aet.thesis.dto.PaginationDto;
 import de.tum.cit.aet.thesis.entity.Application;
 import de.tum.cit.aet.thesis.entity.User;
@@ -18,15 +21,21 @@ import de.tum.cit.aet.thesis.exception.request.ResourceAlreadyExistsException;
 import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
 import de.tum.cit.aet.thesis.service.ApplicationService;
 import de.tum.cit.aet.thesis.service.AuthenticationService;
+import de.tum.cit.aet.thesis.utility.KeysetCursor;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @RestController
 @RequestMapping("/v2/applications")
 public class ApplicationController {
+    private static final int MAX_BULK_APPLICATIONS = 1000;
+
     private final ApplicationService applicationService;
     private final AuthenticationService authenticationService;
 
@@ -76,27 +85,50 @@ public class ApplicationController {
             @RequestParam(required = false, defaultValue = "50") Integer limit,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String after,
             JwtAuthenticationToken jwt
     ) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
 
-        Page<Application> applications = applicationService.getAll(
-                fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? null : authenticatedUser.getId(),
-                fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? authenticatedUser.getId() : null,
-                search,
-                state,
-                previous,
-                topic,
-                type,
-                includeSuggestedTopics,
-                page,
-                limit,
-                sortBy,
-                sortOrder
-        );
+        return ResponseEntity.ok(searchApplications(
+                authenticatedUser, search, state, topic, type, previous, includeSuggestedTopics, fetchAll, page, limit, sortBy, sortOrder, after,
+                applications -> {
+                    applicationService.fetchTopics(applications);
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(
-                applications.map(application -> ApplicationDto.fromApplicationEntity(application, application.hasManagementAccess(authenticatedUser)))
+                    return application -> ApplicationDto.fromApplicationEntity(application, application.hasManagementAccess(authenticatedUser));
+                }
+        ));
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<PaginationDto<ApplicationSummaryDto>> getApplicationSummaries(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ApplicationState[] state,
+            @RequestParam(required = false) String[] topic,
+            @RequestParam(required = false) String[] type,
+            @RequestParam(required = false) String[] previous,
+            @RequestParam(required = false, defaultValue = "true") Boolean includeSuggestedTopics,
+            @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String after,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
+
+        return ResponseEntity.ok(searchApplications(
+                authenticatedUser, search, state, topic, type, previous, includeSuggestedTopics, fetchAll, page, limit, sortBy, sortOrder, after,
+                applications -> {
+                    Map<UUID, String> topicTitles = applicationService.getTopicTitles(applications);
+
+                    return application -> ApplicationSummaryDto.fromApplicationEntity(
+                            application,
+                            topicTitles.get(application.getId()),
+                            application.hasManagementAccess(authenticatedUser)
+                    );
+                }
         ));
     }
 
@@ -166,6 +198,45 @@ public class ApplicationController {
         return ResponseEntity.ok(ApplicationDto.fromApplicationEntity(application, application.hasManagementAccess(authenticatedUser)));
     }
 
+    @PutMapping("/review")
+    @PreAuthorize("hasAnyRole('admin', 'advisor', 'supervisor')")
+    public ResponseEntity<List<ApplicationDto>> reviewApplications(
+            @RequestBody ReviewApplicationsPayload payload,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = this.authenticationService.getAuthenticatedUser(jwt);
+
+        List<Application> applications = applicationService.reviewApplications(
+                authenticatedUser,
+                validateApplicationIds(payload.applicationIds()),
+                RequestValidator.validateNotNull(payload.reason())
+        );
+
+        return ResponseEntity.ok(
+                applications.stream().map(item -> ApplicationDto.fromApplicationEntity(item, item.hasManagementAccess(authenticatedUser))).toList()
+        );
+    }
+
+    @PutMapping("/reject")
+    @PreAuthorize("hasAnyRole('admin', 'advisor', 'supervisor')")
+    public ResponseEntity<List<ApplicationDto>> rejectApplications(
+            @RequestBody RejectApplicationsPayload payload,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = this.authenticationService.getAuthenticatedUser(jwt);
+
+        List<Application> applications = applicationService.rejectApplications(
+                authenticatedUser,
+                validateApplicationIds(payload.applicationIds()),
+                RequestValidator.validateNotNull(payload.reason()),
+                RequestValidator.validateNotNull(payload.notifyUser())
+        );
+
+        return ResponseEntity.ok(
+                applications.stream().map(item -> ApplicationDto.fromApplicationEntity(item, item.hasManagementAccess(authenticatedUser))).toList()
+        );
+    }
+
     @PutMapping("/{applicationId}/review")
     public ResponseEntity<ApplicationDto> reviewApplication(
             @PathVariable UUID applicationId,
@@ -242,4 +313,74 @@ public class ApplicationController {
                 applications.stream().map(item -> ApplicationDto.fromApplicationEntity(item, item.hasManagementAccess(authenticatedUser))).toList()
         );
     }
+
+    private Set<UUID> validateApplicationIds(Set<UUID> applicationIds) {
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            throw new ResourceInvalidParametersException("At least one application has to be selected");
+        }
+
+        if (applicationIds.size() > MAX_BULK_APPLICATIONS) {
+            throw new ResourceInvalidParametersException(String.format("At most %d applications can be reviewed at once", MAX_BULK_APPLICATIONS));
+        }
+
+        return applicationIds;
+    }
+
+    private <T> PaginationDto<T> searchApplications(
+            User authenticatedUser,
+            String search,
+            ApplicationState[] state,
+            String[] topic,
+            String[] type,
+            String[] previous,
+            boolean includeSuggestedTopics,
+            boolean fetchAll,
+            int page,
+            int limit,
+            String sortBy,
+            String sortOrder,
+            String after,
+            Function<Slice<Application>, Function<Application, T>> pageMapper
+    ) {
+        boolean managementAccess = fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor");
+
+        if (after != null) {
+            Slice<Application> applications = applicationService.scrollAll(
+                    managementAccess ? null : authenticatedUser.getId(),
+                    managementAccess ? authenticatedUser.getId() : null,
+                    search,
+                    state,
+                    previous,
+                    topic,
+                    type,
+                    includeSuggestedTopics,
+                    KeysetCursor.decode(after),
+                    limit,
+                    sortBy,
+                    sortOrder
+            );
+
+            return PaginationDto.fromSpringSlice(
+                    applications.map(pageMapper.apply(applications)),
+                    KeysetCursor.nextCursor(applications, application -> new KeysetCursor(application.getCreatedAt(), application.getId()))
+            );
+        }
+
+        Page<Application> applications = applicationService.getAll(
+                managementAccess ? null : authenticatedUser.getId(),
+                managementAccess ? authenticatedUser.getId() : null,
+                search,
+                state,
+                previous,
+                topic,
+                type,
+                includeSuggestedTopics,
+                page,
+                limit,
+                sortBy,
+                sortOrder
+        );
+
+        return PaginationDto.fromSpringPage(applications.map(pageMapper.apply(applications)));
+    }
 }
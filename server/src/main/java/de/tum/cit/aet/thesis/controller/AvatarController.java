@@ -5,12 +5,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.service.UploadService;
 import de.tum.cit.aet.thesis.service.UserService;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -18,6 +20,9 @@ import java.util.concurrent.TimeUnit;
 @RestController
 @RequestMapping("/v2/avatars")
 public class AvatarController {
+    // requested sizes are rounded up to these variants, so arbitrary sizes cannot fill the upload folder
+    private static final List<Integer> AVATAR_SIZES = List.of(64, 128, 400);
+
     private final UserService userService;
     private final UploadService uploadService;
 
@@ -28,7 +33,11 @@ public class AvatarController {
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Resource> getTheses(@PathVariable UUID userId) {
+    public ResponseEntity<Resource> getAvatar(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String filename,
+            @RequestParam(required = false) Integer size
+    ) {
         User user = userService.findById(userId);
         String avatar = user.getAvatar();
 
@@ -36,9 +45,17 @@ public class AvatarController {
             return ResponseEntity.notFound().build();
         }
 
+        Integer variantSize = size == null ? null : AVATAR_SIZES.stream().filter(item -> item >= size).findFirst().orElse(null);
+        Resource resource = variantSize == null ? uploadService.load(avatar) : uploadService.loadImage(avatar, variantSize);
+
+        // the client addresses avatars by their content hash, so a matching url always returns the same image
+        CacheControl cacheControl = avatar.equals(filename) ?
+                CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable() :
+                CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
         return ResponseEntity.ok()
-                .contentType(MediaType.IMAGE_PNG)
-                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
-                .body(uploadService.load(avatar));
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .cacheControl(cacheControl)
+                .body(resource);
     }
 }
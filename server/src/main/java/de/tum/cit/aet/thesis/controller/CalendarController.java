@@ -13,17 +13,24 @@ import de.tum.cit.aet.thesis.service.*;
 @RequestMapping("/v2/calendar")
 public class CalendarController {
     private final ThesisPresentationService thesisPresentationService;
+    private final ResponseCacheService responseCacheService;
 
     @Autowired
-    public CalendarController(ThesisPresentationService thesisPresentationService) {
+    public CalendarController(ThesisPresentationService thesisPresentationService, ResponseCacheService responseCacheService) {
         this.thesisPresentationService = thesisPresentationService;
+        this.responseCacheService = responseCacheService;
     }
 
+    // calendar clients poll the feed, so the serialized calendar is cached with the published presentations
     @GetMapping("/presentations")
     public ResponseEntity<String> getCalendar() {
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("text/calendar"))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=calendar.ics")
-                .body(thesisPresentationService.getPresentationCalendar().toString());
+        return responseCacheService.getResponse(
+                ResponseCacheService.Section.PUBLISHED_PRESENTATIONS,
+                ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType("text/calendar"))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=calendar.ics"),
+                () -> thesisPresentationService.getPresentationCalendar().toString(),
+                "calendar"
+        );
     }
 }
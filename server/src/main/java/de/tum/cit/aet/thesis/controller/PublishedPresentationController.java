@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.*;
 import de.tum.cit.aet.thesis.dto.PaginationDto;
 import de.tum.cit.aet.thesis.dto.PublishedPresentationDto;
 import de.tum.cit.aet.thesis.entity.ThesisPresentation;
+import de.tum.cit.aet.thesis.service.ResponseCacheService;
 import de.tum.cit.aet.thesis.service.ThesisPresentationService;
 
 import java.util.UUID;
@@ -17,10 +18,12 @@ import java.util.UUID;
 @RequestMapping("/v2/published-presentations")
 public class PublishedPresentationController {
     private final ThesisPresentationService thesisPresentationService;
+    private final ResponseCacheService responseCacheService;
 
     @Autowired
-    public PublishedPresentationController(ThesisPresentationService thesisPresentationService) {
+    public PublishedPresentationController(ThesisPresentationService thesisPresentationService, ResponseCacheService responseCacheService) {
         this.thesisPresentationService = thesisPresentationService;
+        this.responseCacheService = responseCacheService;
     }
 
     @GetMapping()
@@ -31,25 +34,27 @@ public class PublishedPresentationController {
             @RequestParam(required = false, defaultValue = "scheduledAt") String sortBy,
             @RequestParam(required = false, defaultValue = "asc") String sortOrder
     ) {
-        Page<ThesisPresentation> presentations = thesisPresentationService.getPublicPresentations(
-                includeDrafts,
-                page,
-                limit,
-                sortBy,
-                sortOrder
-        );
-
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(
-                presentations.map(PublishedPresentationDto::fromPresentationEntity)
-        ));
+        return responseCacheService.getResponse(ResponseCacheService.Section.PUBLISHED_PRESENTATIONS, () -> {
+            Page<ThesisPresentation> presentations = thesisPresentationService.getPublicPresentations(
+                    includeDrafts,
+                    page,
+                    limit,
+                    sortBy,
+                    sortOrder
+            );
+
+            return PaginationDto.fromSpringPage(presentations.map(PublishedPresentationDto::fromPresentationEntity));
+        }, includeDrafts, page, limit, sortBy, sortOrder);
     }
 
     @GetMapping("/{presentationId}")
     public ResponseEntity<PublishedPresentationDto> getPresentation(
             @PathVariable UUID presentationId
     ) {
-        ThesisPresentation presentation = thesisPresentationService.getPublicPresentation(presentationId);
-
-        return ResponseEntity.ok(PublishedPresentationDto.fromPresentationEntity(presentation));
+        return responseCacheService.getResponse(
+                ResponseCacheService.Section.PUBLISHED_PRESENTATIONS,
+                () -> PublishedPresentationDto.fromPresentationEntity(thesisPresentationService.getPublicPresentation(presentationId)),
+                presentationId
+        );
     }
 }
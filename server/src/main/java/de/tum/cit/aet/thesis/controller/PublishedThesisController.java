@@ -4,7 +4,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -14,7 +13,10 @@ import de.tum.cit.aet.thesis.constants.ThesisVisibility;
 import de.tum.cit.aet.thesis.dto.PaginationDto;
 import de.tum.cit.aet.thesis.dto.PublishedThesisDto;
 import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.entity.ThesisFile;
+import de.tum.cit.aet.thesis.service.ResponseCacheService;
 import de.tum.cit.aet.thesis.service.ThesisService;
+import de.tum.cit.aet.thesis.utility.FileResponse;
 
 import java.util.Set;
 import java.util.UUID;
@@ -24,10 +26,12 @@ import java.util.UUID;
 @RequestMapping("/v2/published-theses")
 public class PublishedThesisController {
     private final ThesisService thesisService;
+    private final ResponseCacheService responseCacheService;
 
     @Autowired
-    public PublishedThesisController(ThesisService thesisService) {
+    public PublishedThesisController(ThesisService thesisService, ResponseCacheService responseCacheService) {
         this.thesisService = thesisService;
+        this.responseCacheService = responseCacheService;
     }
 
     @GetMapping
@@ -37,19 +41,21 @@ public class PublishedThesisController {
             @RequestParam(required = false, defaultValue = "endDate") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder
     ) {
-        Page<Thesis> theses = thesisService.getAll(
-                null,
-                Set.of(ThesisVisibility.PUBLIC),
-                null,
-                new ThesisState[]{ThesisState.FINISHED},
-                null,
-                page,
-                limit,
-                sortBy,
-                sortOrder
-        );
+        return responseCacheService.getResponse(ResponseCacheService.Section.PUBLISHED_THESES, () -> {
+            Page<Thesis> theses = thesisService.getAll(
+                    null,
+                    Set.of(ThesisVisibility.PUBLIC),
+                    null,
+                    new ThesisState[]{ThesisState.FINISHED},
+                    null,
+                    page,
+                    limit,
+                    sortBy,
+                    sortOrder
+            );
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(theses.map(PublishedThesisDto::fromThesisEntity)));
+            return PaginationDto.fromSpringPage(theses.map(PublishedThesisDto::fromThesisEntity));
+        }, page, limit, sortBy, sortOrder);
     }
 
     @GetMapping("/{thesisId}/thesis")
@@ -62,9 +68,14 @@ public class PublishedThesisController {
             throw new AccessDeniedException("You do not have the required permissions to view this thesis");
         }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=thesis_%s.pdf", thesisId))
-                .body(thesisService.getThesisFile(thesis.getLatestFile("THESIS").orElseThrow()));
+        ThesisFile file = thesis.getLatestFile("THESIS").orElseThrow();
+
+        return FileResponse.build(
+                thesisService.getThesisFile(file),
+                file.getFilename(),
+                MediaType.APPLICATION_PDF,
+                String.format("inline; filename=thesis_%s.pdf", thesisId),
+                FileResponse.revalidatePublic()
+        );
     }
 }
@@ -1,10 +1,11 @@
 package de.tum.cit.aet.thesis.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
-import org.springframework.http.CacheControl;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -12,22 +13,29 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import de.tum.cit.aet.thesis.constants.*;
 import de.tum.cit.aet.thesis.controller.payload.*;
 import de.tum.cit.aet.thesis.dto.PaginationDto;
 import de.tum.cit.aet.thesis.dto.ThesisCommentDto;
 import de.tum.cit.aet.thesis.dto.ThesisDto;
+import de.tum.cit.aet.thesis.dto.ThesisSummaryDto;
 import de.tum.cit.aet.thesis.entity.*;
 import de.tum.cit.aet.thesis.service.AuthenticationService;
 import de.tum.cit.aet.thesis.service.ThesisCommentService;
+import de.tum.cit.aet.thesis.service.ThesisExportService;
 import de.tum.cit.aet.thesis.service.ThesisPresentationService;
 import de.tum.cit.aet.thesis.service.ThesisService;
+import de.tum.cit.aet.thesis.utility.FileResponse;
+import de.tum.cit.aet.thesis.utility.KeysetCursor;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
 
+import java.time.Instant;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Slf4j
 @RestController
@@ -37,13 +45,15 @@ public class ThesisController {
     private final AuthenticationService authenticationService;
     private final ThesisCommentService thesisCommentService;
     private final ThesisPresentationService thesisPresentationService;
+    private final ThesisExportService thesisExportService;
 
     @Autowired
-    public ThesisController(ThesisService thesisService, AuthenticationService authenticationService, ThesisCommentService thesisCommentService, ThesisPresentationService thesisPresentationService) {
+    public ThesisController(ThesisService thesisService, AuthenticationService authenticationService, ThesisCommentService thesisCommentService, ThesisPresentationService thesisPresentationService, ThesisExportService thesisExportService) {
         this.thesisService = thesisService;
         this.authenticationService = authenticationService;
         this.thesisCommentService = thesisCommentService;
         this.thesisPresentationService = thesisPresentationService;
+        this.thesisExportService = thesisExportService;
     }
 
     @GetMapping
@@ -56,46 +66,35 @@ public class ThesisController {
             @RequestParam(required = false, defaultValue = "50") Integer limit,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String after,
             JwtAuthenticationToken jwt
     ) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
 
-        UUID userId = authenticatedUser.getId();
-        Set<ThesisVisibility> visibilities = Set.of(
-                ThesisVisibility.PUBLIC,
-                ThesisVisibility.STUDENT,
-                ThesisVisibility.INTERNAL,
-                ThesisVisibility.PRIVATE
-        );
-
-        if (fetchAll) {
-            userId = null;
-
-            if (authenticatedUser.hasAnyGroup("admin")) {
-                visibilities = null;
-            } else if (authenticatedUser.hasAnyGroup("advisor", "supervisor")) {
-                visibilities = Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT, ThesisVisibility.INTERNAL);
-            } else if (authenticatedUser.hasAnyGroup("student")) {
-                visibilities = Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT);
-            } else {
-                visibilities = Set.of(ThesisVisibility.PUBLIC);
-            }
-        }
+        return ResponseEntity.ok(searchTheses(
+                authenticatedUser, search, state, type, fetchAll, page, limit, sortBy, sortOrder, after,
+                thesis -> ThesisDto.fromThesisEntity(thesis, thesis.hasAdvisorAccess(authenticatedUser), thesis.hasStudentAccess(authenticatedUser))
+        ));
+    }
 
-        Page<Thesis> theses = thesisService.getAll(
-                userId,
-                visibilities,
-                search,
-                state,
-                type,
-                page,
-                limit,
-                sortBy,
-                sortOrder
-        );
+    @GetMapping("/summaries")
+    public ResponseEntity<PaginationDto<ThesisSummaryDto>> getThesisSummaries(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ThesisState[] state,
+            @RequestParam(required = false) String[] type,
+            @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String after,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(
-                theses.map(thesis -> ThesisDto.fromThesisEntity(thesis, thesis.hasAdvisorAccess(authenticatedUser), thesis.hasStudentAccess(authenticatedUser)))
+        return ResponseEntity.ok(searchTheses(
+                authenticatedUser, search, state, type, fetchAll, page, limit, sortBy, sortOrder, after,
+                ThesisSummaryDto::fromThesisEntity
         ));
     }
 
@@ -309,11 +308,13 @@ public class ThesisController {
 
         ThesisProposal proposal = thesis.getProposalById(proposalId).orElseThrow();
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
-                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=proposal_%s.pdf", thesisId))
-                .body(thesisService.getProposalFile(proposal));
+        return FileResponse.build(
+                thesisService.getProposalFile(proposal),
+                proposal.getProposalFilename(),
+                MediaType.APPLICATION_PDF,
+                String.format("inline; filename=proposal_%s.pdf", thesisId),
+                FileResponse.immutablePrivate()
+        );
     }
 
     @DeleteMapping("/{thesisId}/proposal/{proposalId}")
@@ -430,11 +431,13 @@ public class ThesisController {
 
         ThesisFile file = thesis.getFileById(fileId).orElseThrow();
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
-                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=" + file.getFilename(), thesisId))
-                .body(thesisService.getThesisFile(file));
+        return FileResponse.build(
+                thesisService.getThesisFile(file),
+                file.getFilename(),
+                MediaType.APPLICATION_OCTET_STREAM,
+                String.format("inline; filename=" + file.getFilename(), thesisId),
+                FileResponse.immutablePrivate()
+        );
     }
 
     @DeleteMapping("/{thesisId}/files/{fileId}")
@@ -563,6 +566,7 @@ public class ThesisController {
             @RequestParam(required = false, defaultValue = "THESIS") ThesisCommentType commentType,
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false) String after,
             JwtAuthenticationToken jwt
     ) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
@@ -576,6 +580,15 @@ public class ThesisController {
             throw new AccessDeniedException("You do not have the required permissions to view comments on this thesis");
         }
 
+        if (after != null) {
+            Slice<ThesisComment> comments = thesisCommentService.scrollComments(thesis, commentType, KeysetCursor.decode(after), limit);
+
+            return ResponseEntity.ok(PaginationDto.fromSpringSlice(
+                    comments.map(ThesisCommentDto::fromCommentEntity),
+                    KeysetCursor.nextCursor(comments, comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()))
+            ));
+        }
+
         Page<ThesisComment> comments = thesisCommentService.getComments(thesis, commentType, page, limit);
 
         return ResponseEntity.ok(PaginationDto.fromSpringPage(comments.map(ThesisCommentDto::fromCommentEntity)));
@@ -627,11 +640,13 @@ public class ThesisController {
             throw new AccessDeniedException("You do not have the required permissions to view this comment");
         }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
-                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=" + comment.getFilename(), commentId))
-                .body(thesisCommentService.getCommentFile(comment));
+        return FileResponse.build(
+                thesisCommentService.getCommentFile(comment),
+                comment.getFilename(),
+                MediaType.APPLICATION_OCTET_STREAM,
+                String.format("inline; filename=" + comment.getFilename(), commentId),
+                FileResponse.immutablePrivate()
+        );
     }
 
     @DeleteMapping("/{thesisId}/comments/{commentId}")
@@ -652,6 +667,44 @@ public class ThesisController {
         return ResponseEntity.ok(ThesisCommentDto.fromCommentEntity(comment));
     }
 
+    /* EXPORT ENDPOINTS */
+
+    // the archive is written straight to the response, so exports of any size never sit in memory or on disk
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<StreamingResponseBody> exportTheses(
+            @RequestParam(required = false, defaultValue = "FINISHED") Set<ThesisState> state,
+            @RequestParam Instant endsAfter,
+            @RequestParam Instant endsBefore,
+            HttpServletRequest request
+    ) {
+        return streamArchive(
+                request,
+                "theses.zip",
+                outputStream -> thesisExportService.exportTheses(state, endsAfter, endsBefore, outputStream)
+        );
+    }
+
+    @GetMapping("/{thesisId}/export")
+    public ResponseEntity<StreamingResponseBody> exportThesis(
+            @PathVariable UUID thesisId,
+            JwtAuthenticationToken jwt,
+            HttpServletRequest request
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
+        Thesis thesis = thesisService.findById(thesisId);
+
+        if (!thesis.hasAdvisorAccess(authenticatedUser)) {
+            throw new AccessDeniedException("You need to be a advisor of this thesis to export its files");
+        }
+
+        return streamArchive(
+                request,
+                String.format("thesis_%s.zip", thesisId),
+                outputStream -> thesisExportService.exportThesis(thesis, outputStream)
+        );
+    }
+
     /* ASSESSMENT ENDPOINTS */
 
     @GetMapping("/{thesisId}/assessment")
@@ -738,4 +791,84 @@ public class ThesisController {
 
         return ResponseEntity.ok(ThesisDto.fromThesisEntity(thesis, thesis.hasAdvisorAccess(authenticatedUser), thesis.hasStudentAccess(authenticatedUser)));
     }
+
+    // an "after" parameter switches to cursor pagination, an empty value requests the first page
+    private <T> PaginationDto<T> searchTheses(
+            User authenticatedUser,
+            String search,
+            ThesisState[] state,
+            String[] type,
+            boolean fetchAll,
+            int page,
+            int limit,
+            String sortBy,
+            String sortOrder,
+            String after,
+            Function<Thesis, T> mapper
+    ) {
+        UUID userId = authenticatedUser.getId();
+        Set<ThesisVisibility> visibilities = Set.of(
+                ThesisVisibility.PUBLIC,
+                ThesisVisibility.STUDENT,
+                ThesisVisibility.INTERNAL,
+                ThesisVisibility.PRIVATE
+        );
+
+        if (fetchAll) {
+            userId = null;
+
+            if (authenticatedUser.hasAnyGroup("admin")) {
+                visibilities = null;
+            } else if (authenticatedUser.hasAnyGroup("advisor", "supervisor")) {
+                visibilities = Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT, ThesisVisibility.INTERNAL);
+            } else if (authenticatedUser.hasAnyGroup("student")) {
+                visibilities = Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT);
+            } else {
+                visibilities = Set.of(ThesisVisibility.PUBLIC);
+            }
+        }
+
+        if (after != null) {
+            Slice<Thesis> theses = thesisService.scrollAll(
+                    userId,
+                    visibilities,
+                    search,
+                    state,
+                    type,
+                    KeysetCursor.decode(after),
+                    limit,
+                    sortBy,
+                    sortOrder
+            );
+
+            return PaginationDto.fromSpringSlice(
+                    theses.map(mapper),
+                    KeysetCursor.nextCursor(theses, thesis -> new KeysetCursor(thesis.getCreatedAt(), thesis.getId()))
+            );
+        }
+
+        Page<Thesis> theses = thesisService.getAll(
+                userId,
+                visibilities,
+                search,
+                state,
+                type,
+                page,
+                limit,
+                sortBy,
+                sortOrder
+        );
+
+        return PaginationDto.fromSpringPage(theses.map(mapper));
+    }
+
+    // exports can run for hours, so only their requests get a longer timeout than the default of async requests
+    private ResponseEntity<StreamingResponseBody> streamArchive(HttpServletRequest request, String filename, StreamingResponseBody body) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(thesisExportService.getRequestTimeout().toMillis());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .body(body);
+    }
 }
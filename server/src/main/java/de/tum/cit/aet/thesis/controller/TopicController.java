@@ -16,6 +16,7 @@ import de.tum.cit.aet.thesis.entity.Topic;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.service.ApplicationService;
 import de.tum.cit.aet.thesis.service.AuthenticationService;
+import de.tum.cit.aet.thesis.service.ResponseCacheService;
 import de.tum.cit.aet.thesis.service.TopicService;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
 
@@ -28,12 +29,19 @@ public class TopicController {
     private final TopicService topicService;
     private final AuthenticationService authenticationService;
     private final ApplicationService applicationService;
+    private final ResponseCacheService responseCacheService;
 
     @Autowired
-    public TopicController(TopicService topicService, AuthenticationService authenticationService, ApplicationService applicationService) {
+    public TopicController(
+            TopicService topicService,
+            AuthenticationService authenticationService,
+            ApplicationService applicationService,
+            ResponseCacheService responseCacheService
+    ) {
         this.topicService = topicService;
         this.authenticationService = authenticationService;
         this.applicationService = applicationService;
+        this.responseCacheService = responseCacheService;
     }
 
     @GetMapping
@@ -46,24 +54,28 @@ public class TopicController {
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder
     ) {
-        Page<Topic> topics = topicService.getAll(
-                type,
-                includeClosed,
-                search,
-                page,
-                limit,
-                sortBy,
-                sortOrder
-        );
-
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(topics.map(TopicDto::fromTopicEntity)));
+        return responseCacheService.getResponse(ResponseCacheService.Section.TOPICS, () -> {
+            Page<Topic> topics = topicService.getAll(
+                    type,
+                    includeClosed,
+                    search,
+                    page,
+                    limit,
+                    sortBy,
+                    sortOrder
+            );
+
+            return PaginationDto.fromSpringPage(topics.map(TopicDto::fromTopicEntity));
+        }, search, type, includeClosed, page, limit, sortBy, sortOrder);
     }
 
     @GetMapping("/{topicId}")
     public ResponseEntity<TopicDto> getTopic(@PathVariable UUID topicId) {
-        Topic topic = topicService.findById(topicId);
-
-        return ResponseEntity.ok(TopicDto.fromTopicEntity(topic));
+        return responseCacheService.getResponse(
+                ResponseCacheService.Section.TOPICS,
+                () -> TopicDto.fromTopicEntity(topicService.findById(topicId)),
+                topicId
+        );
     }
 
     @PostMapping
@@ -4,7 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
-import org.springframework.http.HttpHeaders;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -16,6 +16,8 @@ import de.tum.cit.aet.thesis.dto.PaginationDto;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.service.AuthenticationService;
 import de.tum.cit.aet.thesis.service.UserService;
+import de.tum.cit.aet.thesis.utility.FileResponse;
+import de.tum.cit.aet.thesis.utility.KeysetCursor;
 
 import java.util.UUID;
 
@@ -40,8 +42,18 @@ public class UserController {
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
             @RequestParam(required = false, defaultValue = "joinedAt") String sortBy,
-            @RequestParam(required = false, defaultValue = "desc") String sortOrder
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String after
     ) {
+        if (after != null) {
+            Slice<User> users = userService.scrollAll(searchQuery, groups, KeysetCursor.decode(after), limit, sortBy, sortOrder);
+
+            return ResponseEntity.ok(PaginationDto.fromSpringSlice(
+                    users.map(LightUserDto::fromUserEntity),
+                    KeysetCursor.nextCursor(users, user -> new KeysetCursor(user.getJoinedAt(), user.getId()))
+            ));
+        }
+
         Page<User> users = userService.getAll(searchQuery, groups, page, limit, sortBy, sortOrder);
 
         return ResponseEntity.ok(PaginationDto.fromSpringPage(users.map(LightUserDto::fromUserEntity)));
@@ -56,10 +68,13 @@ public class UserController {
             throw new AccessDeniedException("You are not allowed to access data from this user");
         }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=examination_report_%s.pdf", userId))
-                .body(userService.getExaminationReport(user));
+        return FileResponse.build(
+                userService.getExaminationReport(user),
+                user.getExaminationFilename(),
+                MediaType.APPLICATION_PDF,
+                String.format("inline; filename=examination_report_%s.pdf", userId),
+                FileResponse.revalidatePrivate()
+        );
     }
 
     @GetMapping("/{userId}/cv")
@@ -71,10 +86,13 @@ public class UserController {
             throw new AccessDeniedException("You are not allowed to access data from this user");
         }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=cv_%s.pdf", userId))
-                .body(userService.getCV(user));
+        return FileResponse.build(
+                userService.getCV(user),
+                user.getCvFilename(),
+                MediaType.APPLICATION_PDF,
+                String.format("inline; filename=cv_%s.pdf", userId),
+                FileResponse.revalidatePrivate()
+        );
     }
 
     @GetMapping("/{userId}/degree-report")
@@ -86,9 +104,12 @@ public class UserController {
             throw new AccessDeniedException("You are not allowed to access data from this user");
         }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=degree_report_%s.pdf", userId))
-                .body(userService.getDegreeReport(user));
+        return FileResponse.build(
+                userService.getDegreeReport(user),
+                user.getDegreeFilename(),
+                MediaType.APPLICATION_PDF,
+                String.format("inline; filename=degree_report_%s.pdf", userId),
+                FileResponse.revalidatePrivate()
+        );
     }
 }
@@ -0,0 +1,12 @@
+package de.tum.cit.aet.thesis.controller.payload;
+
+import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record RejectApplicationsPayload(
+        Set<UUID> applicationIds,
+        ApplicationRejectReason reason,
+        Boolean notifyUser
+) { }
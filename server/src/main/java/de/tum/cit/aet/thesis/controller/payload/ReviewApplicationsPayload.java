@@ -0,0 +1,12 @@
+package de.tum.cit.aet.thesis.controller.payload;
+
+import de.tum.cit.aet.thesis.constants.ApplicationReviewReason;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record ReviewApplicationsPayload(
+        Set<UUID> applicationIds,
+        ApplicationReviewReason reason
+) {
+}
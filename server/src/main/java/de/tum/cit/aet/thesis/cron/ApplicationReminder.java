@@ -2,37 +2,70 @@ package de.tum.cit.aet.thesis.cron;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.repository.projection.UnreviewedApplicationsProjection;
 import de.tum.cit.aet.thesis.service.MailingService;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 @Component
 public class ApplicationReminder {
     private static final Logger log = LoggerFactory.getLogger(ApplicationReminder.class);
+
     private final ApplicationRepository applicationRepository;
     private final MailingService mailingService;
     private final UserRepository userRepository;
+    private final AsyncTaskExecutor taskExecutor;
 
-    public ApplicationReminder(ApplicationRepository applicationRepository, MailingService mailingService, UserRepository userRepository) {
+    public ApplicationReminder(
+            ApplicationRepository applicationRepository,
+            MailingService mailingService,
+            UserRepository userRepository,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor
+    ) {
         this.applicationRepository = applicationRepository;
         this.mailingService = mailingService;
         this.userRepository = userRepository;
+        this.taskExecutor = taskExecutor;
     }
 
     @Scheduled(cron = "0 0 10 * * WED")
     public void emailReminder() {
-        for (User user : userRepository.getRoleMembers(Set.of("admin", "supervisor", "advisor"))) {
-            long unreviewedApplications = applicationRepository.countUnreviewedApplications(user.getId());
+        Map<UUID, Long> unreviewedApplications = applicationRepository
+                .countUnreviewedApplicationsByReviewer(Set.of("admin", "supervisor", "advisor"))
+                .stream()
+                .filter(count -> count.getUnreviewedApplications() > 0)
+                .collect(Collectors.toMap(UnreviewedApplicationsProjection::getUserId, UnreviewedApplicationsProjection::getUnreviewedApplications));
+
+        // the senders run without a persistence context, so the notification settings are loaded upfront
+        List<Future<?>> reminders = userRepository.findAllWithNotificationSettingsByIds(unreviewedApplications.keySet()).stream()
+                .<Future<?>>map(user -> taskExecutor.submit(
+                        () -> mailingService.sendApplicationReminderEmail(user, unreviewedApplications.get(user.getId()))
+                ))
+                .toList();
 
-            if (unreviewedApplications > 0) {
-                mailingService.sendApplicationReminderEmail(user, unreviewedApplications);
+        try {
+            for (Future<?> reminder : reminders) {
+                try {
+                    reminder.get();
+                } catch (ExecutionException exception) {
+                    log.warn("Failed to send application reminder", exception.getCause());
+                }
             }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
         }
 
         log.info("Scheduled task executed at {}", Instant.now());
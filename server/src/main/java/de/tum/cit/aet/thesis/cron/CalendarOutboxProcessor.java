@@ -0,0 +1,20 @@
+package de.tum.cit.aet.thesis.cron;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import de.tum.cit.aet.thesis.service.CalendarService;
+
+@Component
+public class CalendarOutboxProcessor {
+    private final CalendarService calendarService;
+
+    public CalendarOutboxProcessor(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    // new changes are processed right after commit, polling picks up retries and changes of crashed workers
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void processOutbox() {
+        calendarService.triggerProcessing();
+    }
+}
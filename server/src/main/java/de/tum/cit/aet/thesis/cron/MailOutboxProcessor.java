@@ -0,0 +1,38 @@
+package de.tum.cit.aet.thesis.cron;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import de.tum.cit.aet.thesis.service.MailOutboxService;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+public class MailOutboxProcessor {
+    private static final Logger log = LoggerFactory.getLogger(MailOutboxProcessor.class);
+
+    private static final Duration SENT_RETENTION = Duration.ofDays(30);
+
+    private final MailOutboxService mailOutboxService;
+
+    public MailOutboxProcessor(MailOutboxService mailOutboxService) {
+        this.mailOutboxService = mailOutboxService;
+    }
+
+    // new entries are processed right after commit, polling picks up retries and entries of crashed workers
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void processOutbox() {
+        mailOutboxService.triggerProcessing();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void deleteSentEntries() {
+        int deletedEntries = mailOutboxService.deleteSentEntries(Instant.now().minus(SENT_RETENTION));
+
+        if (deletedEntries > 0) {
+            log.info("Deleted {} sent emails from the outbox", deletedEntries);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package de.tum.cit.aet.thesis.cron;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import de.tum.cit.aet.thesis.repository.UploadReferenceRepository;
+import de.tum.cit.aet.thesis.service.UploadService;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+public class UploadCleanup {
+    private static final Logger log = LoggerFactory.getLogger(UploadCleanup.class);
+
+    // uploads are stored before the referencing row is committed, so recent files are never collected
+    private static final Duration ORPHAN_GRACE_PERIOD = Duration.ofDays(1);
+
+    private final UploadService uploadService;
+    private final UploadReferenceRepository uploadReferenceRepository;
+    private final boolean deleteOrphanedFiles;
+
+    public UploadCleanup(
+            UploadService uploadService,
+            UploadReferenceRepository uploadReferenceRepository,
+            @Value("${thesis-management.storage.delete-orphaned-files}") boolean deleteOrphanedFiles
+    ) {
+        this.uploadService = uploadService;
+        this.uploadReferenceRepository = uploadReferenceRepository;
+        this.deleteOrphanedFiles = deleteOrphanedFiles;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateUploads() {
+        int migratedFiles = uploadService.migrateToShardedLayout();
+
+        if (migratedFiles > 0) {
+            log.info("Migrated {} uploaded files to the sharded upload layout", migratedFiles);
+        }
+    }
+
+    @Scheduled(cron = "0 0 3 * * SUN")
+    public void collectOrphanedUploads() {
+        uploadReferenceRepository.refreshReferenceCounts();
+
+        if (!deleteOrphanedFiles) {
+            return;
+        }
+
+        int deletedFiles = uploadService.deleteUnreferencedFiles(
+                uploadReferenceRepository.findReferencedFilenames(),
+                Instant.now().minus(ORPHAN_GRACE_PERIOD)
+        );
+
+        log.info("Deleted {} unreferenced uploaded files", deletedFiles);
+    }
+}
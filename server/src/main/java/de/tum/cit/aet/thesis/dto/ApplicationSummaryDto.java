@@ -0,0 +1,45 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
+import de.tum.cit.aet.thesis.constants.ApplicationState;
+import de.tum.cit.aet.thesis.entity.Application;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ApplicationSummaryDto(
+        UUID applicationId,
+        LightUserDto user,
+        UUID topicId,
+        String topicTitle,
+        String thesisTitle,
+        String thesisType,
+        ApplicationState state,
+        Instant desiredStartDate,
+        ApplicationRejectReason rejectReason,
+        Instant createdAt,
+        List<ApplicationDto.ApplicationReviewerDto> reviewers,
+        Instant reviewedAt
+) {
+    public static ApplicationSummaryDto fromApplicationEntity(Application application, String topicTitle, boolean protectedData) {
+        if (application == null) {
+            return null;
+        }
+
+        return new ApplicationSummaryDto(
+                application.getId(),
+                LightUserDto.fromUserEntity(application.getUser()),
+                application.getTopic() != null ? application.getTopic().getId() : null,
+                topicTitle,
+                application.getThesisTitle(),
+                application.getThesisType(),
+                application.getState(),
+                application.getDesiredStartDate(),
+                application.getRejectReason(),
+                application.getCreatedAt(),
+                protectedData ? application.getReviewers().stream().map(ApplicationDto.ApplicationReviewerDto::fromApplicationReviewerEntity).toList() : null,
+                application.getReviewedAt()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.thesis.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -10,7 +11,8 @@ public record PaginationDto<T> (
         int pageSize,
         long totalElements,
         int totalPages,
-        boolean last
+        boolean last,
+        String nextCursor
 ) {
     public static <E> PaginationDto<E> fromSpringPage(Page<E> page) {
         if (page == null) {
@@ -23,7 +25,25 @@ public record PaginationDto<T> (
             page.getSize(),
             page.getTotalElements(),
             page.getTotalPages(),
-            page.isLast()
+            page.isLast(),
+            null
         );
     }
-}
\ No newline at end of file
+
+    // cursor pages skip the count query, so the totals are unknown
+    public static <E> PaginationDto<E> fromSpringSlice(Slice<E> slice, String nextCursor) {
+        if (slice == null) {
+            return null;
+        }
+
+        return new PaginationDto<E>(
+            slice.getContent(),
+            0,
+            slice.getSize(),
+            -1,
+            -1,
+            !slice.hasNext(),
+            nextCursor
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.constants.ThesisVisibility;
+import de.tum.cit.aet.thesis.entity.Thesis;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record ThesisSummaryDto(
+        UUID thesisId,
+        String title,
+        String type,
+        String language,
+        ThesisVisibility visibility,
+        Set<String> keywords,
+        ThesisState state,
+        Instant startDate,
+        Instant endDate,
+        Instant createdAt,
+        List<LightUserDto> students,
+        List<LightUserDto> advisors,
+        List<LightUserDto> supervisors
+) {
+    public static ThesisSummaryDto fromThesisEntity(Thesis thesis) {
+        if (thesis == null) {
+            return null;
+        }
+
+        return new ThesisSummaryDto(
+                thesis.getId(),
+                thesis.getTitle(),
+                thesis.getType(),
+                thesis.getLanguage(),
+                thesis.getVisibility(),
+                thesis.getKeywords(),
+                thesis.getState(),
+                thesis.getStartDate(),
+                thesis.getEndDate(),
+                thesis.getCreatedAt(),
+                thesis.getStudents().stream().map(LightUserDto::fromUserEntity).toList(),
+                thesis.getAdvisors().stream().map(LightUserDto::fromUserEntity).toList(),
+                thesis.getSupervisors().stream().map(LightUserDto::fromUserEntity).toList()
+        );
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
 import de.tum.cit.aet.thesis.constants.ApplicationState;
@@ -70,6 +71,7 @@ public class Application {
 
     @OneToMany(mappedBy = "application", fetch = FetchType.EAGER)
     @OrderBy("reviewedAt ASC")
+    @BatchSize(size = 50)
     private List<ApplicationReviewer> reviewers = new ArrayList<>();
 
     public boolean hasReadAccess(User user) {
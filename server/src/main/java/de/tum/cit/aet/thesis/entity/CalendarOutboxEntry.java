@@ -0,0 +1,44 @@
+package de.tum.cit.aet.thesis.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+// the last state of a calendar event that was handed to the calendar server, content is null for deleted events
+// and nextAttemptAt is null once the state was synchronized
+@Getter
+@Setter
+@Entity
+@Table(name = "calendar_outbox")
+public class CalendarOutboxEntry {
+    @Id
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "content")
+    private String content;
+
+    @Column(name = "etag")
+    private String etag;
+
+    @NotNull
+    @Column(name = "revision", nullable = false)
+    private Long revision;
+
+    @NotNull
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,76 @@
+package de.tum.cit.aet.thesis.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "mail_outbox")
+public class MailOutboxEntry {
+    public record Attachment(String filename, String storedFile, String contentType, byte[] content) {}
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "outbox_id", nullable = false)
+    private UUID id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false)
+    private MailOutboxState state;
+
+    @NotNull
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @NotNull
+    @Column(name = "body", nullable = false)
+    private String body;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "to_addresses", columnDefinition = "jsonb", nullable = false)
+    private List<String> toAddresses = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "cc_addresses", columnDefinition = "jsonb", nullable = false)
+    private List<String> ccAddresses = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "bcc_addresses", columnDefinition = "jsonb", nullable = false)
+    private List<String> bccAddresses = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "attachments", columnDefinition = "jsonb", nullable = false)
+    private List<Attachment> attachments = new ArrayList<>();
+
+    @NotNull
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @CreationTimestamp
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -85,31 +86,38 @@ public class Thesis {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @OrderBy("position ASC")
     private List<ThesisRole> roles = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @OrderBy("createdAt DESC")
     private List<ThesisProposal> proposals = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @OrderBy("createdAt DESC")
     private List<ThesisAssessment> assessments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @OrderBy("scheduledAt ASC")
     private List<ThesisPresentation> presentations = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @OrderBy("requestedAt ASC")
     private List<ThesisFeedback> feedback = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @OrderBy("uploadedAt DESC")
     private List<ThesisFile> files = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private Set<ThesisStateChange> states = new HashSet<>();
 
     public List<User> getStudents() {
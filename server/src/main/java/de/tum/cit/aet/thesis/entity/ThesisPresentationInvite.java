@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 import de.tum.cit.aet.thesis.entity.key.ThesisPresentationInviteId;
 
 import java.time.Instant;
@@ -14,7 +15,7 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "thesis_presentation_invites")
-public class ThesisPresentationInvite {
+public class ThesisPresentationInvite implements Persistable<ThesisPresentationInviteId> {
     @EmbeddedId
     private ThesisPresentationInviteId id;
 
@@ -27,6 +28,16 @@ public class ThesisPresentationInvite {
     @Column(name = "invited_at", nullable = false, length = Integer.MAX_VALUE)
     private Instant invitedAt;
 
+    // invites are only inserted, so save skips the select that merge would issue for the assigned id
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
     public InternetAddress getEmail() {
         try {
             return new InternetAddress(id.getEmail());
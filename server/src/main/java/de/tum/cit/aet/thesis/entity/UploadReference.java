@@ -0,0 +1,26 @@
+package de.tum.cit.aet.thesis.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "upload_references")
+public class UploadReference {
+    @Id
+    @Column(name = "filename", nullable = false)
+    private String filename;
+
+    @NotNull
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
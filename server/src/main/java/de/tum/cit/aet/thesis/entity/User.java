@@ -5,6 +5,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -18,6 +21,7 @@ import java.util.*;
 @Getter
 @Setter
 @Entity
+@BatchSize(size = 50)
 @Table(name = "users")
 public class User {
     @Id
@@ -44,6 +48,10 @@ public class User {
     @Column(name = "last_name")
     private String lastName;
 
+    // lowercased names, email and ids maintained by the database and backed by a trigram index
+    @Column(name = "search_text", insertable = false, updatable = false)
+    private String searchText;
+
     @Column(name = "gender")
     private String gender;
 
@@ -92,9 +100,12 @@ public class User {
     private Instant joinedAt;
 
     @OneToMany(mappedBy = "user", fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<UserGroup> groups = new HashSet<>();
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<NotificationSetting> notificationSettings = new ArrayList<>();
 
     public InternetAddress getEmail() {
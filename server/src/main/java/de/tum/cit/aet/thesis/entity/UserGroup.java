@@ -3,11 +3,14 @@ package de.tum.cit.aet.thesis.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import de.tum.cit.aet.thesis.entity.key.UserGroupId;
 
 @Getter
 @Setter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "user_groups")
 public class UserGroup {
     @EmbeddedId
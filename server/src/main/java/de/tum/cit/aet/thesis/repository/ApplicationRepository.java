@@ -2,34 +2,37 @@ package de.tum.cit.aet.thesis.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
 import de.tum.cit.aet.thesis.constants.ApplicationState;
 import de.tum.cit.aet.thesis.entity.Application;
-import de.tum.cit.aet.thesis.entity.Topic;
 import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.repository.projection.ApplicationTopicProjection;
+import de.tum.cit.aet.thesis.repository.projection.UnreviewedApplicationsProjection;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, UUID> {
-    @Query(
-            "SELECT DISTINCT a FROM Application a WHERE " +
+    String SEARCH_APPLICATIONS_FILTER =
             "(:userId IS NULL OR a.user.id = :userId) AND " +
             "(:states IS NULL OR a.state IN :states OR (:previousIds IS NOT NULL AND a.id IN :previousIds)) AND " +
             "(:reviewerId IS NULL OR NOT EXISTS (SELECT ar FROM ApplicationReviewer ar WHERE a.id = ar.application.id AND ar.user.id = :reviewerId AND ar.reason = 'NOT_INTERESTED') OR (:previousIds IS NOT NULL AND a.id IN :previousIds)) AND " +
             "(:includeSuggestedTopics = true OR a.topic IS NOT NULL) AND " +
             "(:topics IS NULL OR a.topic.id IN :topics OR (:includeSuggestedTopics = true AND a.topic IS NULL)) AND " +
             "(:types IS NULL OR a.thesisType IN :types) AND " +
-            "(:searchQuery IS NULL OR (LOWER(a.user.firstName) || ' ' || LOWER(a.user.lastName)) LIKE %:searchQuery% OR " +
-            "LOWER(a.user.email) LIKE %:searchQuery% OR " +
-            "LOWER(a.user.matriculationNumber) LIKE %:searchQuery% OR " +
-            "LOWER(a.user.universityId) LIKE %:searchQuery%)"
-    )
+            "(:searchQuery IS NULL OR a.user.searchText LIKE %:searchQuery%)";
+
+    @Query("SELECT DISTINCT a FROM Application a WHERE " + SEARCH_APPLICATIONS_FILTER)
     Page<Application> searchApplications(
             @Param("userId") UUID userId,
             @Param("reviewerId") UUID reviewerId,
@@ -42,6 +45,44 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
             Pageable page
     );
 
+    // seeks past the cursor on (createdAt, id) instead of skipping rows and does not count the matches
+    @Query(
+            "SELECT DISTINCT a FROM Application a WHERE " + SEARCH_APPLICATIONS_FILTER + " AND " +
+            "(:afterId IS NULL OR " +
+            "(:ascending = true AND (a.createdAt > :afterCreatedAt OR (a.createdAt = :afterCreatedAt AND a.id > :afterId))) OR " +
+            "(:ascending = false AND (a.createdAt < :afterCreatedAt OR (a.createdAt = :afterCreatedAt AND a.id < :afterId))))"
+    )
+    Slice<Application> scrollApplications(
+            @Param("userId") UUID userId,
+            @Param("reviewerId") UUID reviewerId,
+            @Param("searchQuery") String searchQuery,
+            @Param("states") Set<ApplicationState> states,
+            @Param("previousIds") Set<String> previousIds,
+            @Param("topics") Set<String> topics,
+            @Param("types") Set<String> types,
+            @Param("includeSuggestedTopics") boolean includeSuggestedTopics,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            @Param("ascending") boolean ascending,
+            Pageable page
+    );
+
+    @Query(
+            "SELECT DISTINCT a FROM Application a " +
+            "LEFT JOIN FETCH a.topic t " +
+            "LEFT JOIN FETCH t.roles r " +
+            "LEFT JOIN FETCH r.user " +
+            "WHERE a.id IN :applicationIds"
+    )
+    List<Application> fetchTopicsByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+
+    @Query(
+            "SELECT a.id AS applicationId, t.title AS topicTitle FROM Application a " +
+            "JOIN a.topic t " +
+            "WHERE a.id IN :applicationIds"
+    )
+    List<ApplicationTopicProjection> findTopicTitlesByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+
     @Query(
             "SELECT COUNT(DISTINCT a) FROM Application a " +
             "LEFT JOIN Topic t ON (a.topic.id = t.id) " +
@@ -53,6 +94,21 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
     )
     long countUnreviewedApplications(@Param("userId") UUID userId);
 
+    // counts the unreviewed applications of all role members at once instead of one count query per reviewer
+    @Query(value =
+            "SELECT m.user_id AS userId, COUNT(*) AS unreviewedApplications " +
+            "FROM applications a " +
+            "JOIN (SELECT DISTINCT g.user_id FROM user_groups g WHERE g.\"group\" IN (:roles)) m ON (" +
+                    "a.topic_id IS NULL OR " +
+                    "EXISTS (SELECT 1 FROM topic_roles r WHERE r.topic_id = a.topic_id AND r.user_id = m.user_id)" +
+            ") " +
+            "WHERE a.state = 'NOT_ASSESSED' AND " +
+                    "NOT EXISTS (SELECT 1 FROM application_reviewers ar WHERE ar.application_id = a.application_id AND ar.user_id = m.user_id) " +
+            "GROUP BY m.user_id",
+            nativeQuery = true
+    )
+    List<UnreviewedApplicationsProjection> countUnreviewedApplicationsByReviewer(@Param("roles") Set<String> roles);
+
     @Query(
             "SELECT EXISTS (" +
                     "SELECT a FROM Application a " +
@@ -65,6 +121,44 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
             @Param("topicId") UUID topicId
     );
 
-    List<Application> findAllByTopic(Topic topic);
+    // applicants that failed the requirements are rejected for all their pending applications at once
+    @Query(
+            "SELECT a.id FROM Application a WHERE a.state = 'NOT_ASSESSED' AND (" +
+                    "a.id IN :applicationIds OR " +
+                    "(:includeApplicantApplications = true AND a.user.id IN (SELECT b.user.id FROM Application b WHERE b.id IN :applicationIds))" +
+            ")"
+    )
+    List<UUID> findPendingApplicationIds(
+            @Param("applicationIds") Collection<UUID> applicationIds,
+            @Param("includeApplicantApplications") boolean includeApplicantApplications
+    );
+
+    @Query(
+            "SELECT a.id FROM Application a WHERE a.state = 'NOT_ASSESSED' AND (" +
+                    "a.topic.id = :topicId OR " +
+                    "(:includeApplicantApplications = true AND a.user.id IN (" +
+                            "SELECT b.user.id FROM Application b WHERE b.topic.id = :topicId AND b.state = 'NOT_ASSESSED'" +
+                    "))" +
+            ")"
+    )
+    List<UUID> findPendingApplicationIdsByTopic(
+            @Param("topicId") UUID topicId,
+            @Param("includeApplicantApplications") boolean includeApplicantApplications
+    );
+
+    @Modifying
+    @Query(
+            "UPDATE Application a SET a.state = 'REJECTED', a.rejectReason = :reason, a.reviewedAt = :reviewedAt " +
+            "WHERE a.id IN :applicationIds AND a.state = 'NOT_ASSESSED'"
+    )
+    int rejectApplications(
+            @Param("applicationIds") Collection<UUID> applicationIds,
+            @Param("reason") ApplicationRejectReason reason,
+            @Param("reviewedAt") Instant reviewedAt
+    );
+
+    @Query("SELECT DISTINCT a FROM Application a LEFT JOIN FETCH a.reviewers WHERE a.id IN :applicationIds")
+    List<Application> findAllWithReviewersByIds(@Param("applicationIds") Collection<UUID> applicationIds);
+
     List<Application> findAllByUser(User user);
 }
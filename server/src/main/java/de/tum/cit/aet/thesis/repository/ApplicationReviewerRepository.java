@@ -1,11 +1,45 @@
 package de.tum.cit.aet.thesis.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import de.tum.cit.aet.thesis.entity.ApplicationReviewer;
 import de.tum.cit.aet.thesis.entity.key.ApplicationReviewerId;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
 
 @Repository
 public interface ApplicationReviewerRepository extends JpaRepository<ApplicationReviewer, ApplicationReviewerId> {
+    // creates or updates the reviews of one reviewer for many applications in a single statement
+    // the query space limits the second level cache invalidation to the reviews instead of all cached regions
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "application_reviewers"))
+    @Query(value =
+            "INSERT INTO application_reviewers (application_id, user_id, reason, reviewed_at) " +
+            "SELECT a.application_id, :userId, :reason, :reviewedAt FROM applications a " +
+            "WHERE a.application_id IN (:applicationIds) " +
+            "ON CONFLICT (application_id, user_id) DO UPDATE SET reason = EXCLUDED.reason, reviewed_at = EXCLUDED.reviewed_at",
+            nativeQuery = true
+    )
+    int upsertReviews(
+            @Param("applicationIds") Collection<UUID> applicationIds,
+            @Param("userId") UUID userId,
+            @Param("reason") String reason,
+            @Param("reviewedAt") Instant reviewedAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM ApplicationReviewer r WHERE r.user.id = :userId AND r.application.id IN :applicationIds")
+    int deleteReviews(
+            @Param("applicationIds") Collection<UUID> applicationIds,
+            @Param("userId") UUID userId
+    );
 }
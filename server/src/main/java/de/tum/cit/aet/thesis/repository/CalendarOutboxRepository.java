@@ -0,0 +1,86 @@
+package de.tum.cit.aet.thesis.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import de.tum.cit.aet.thesis.entity.CalendarOutboxEntry;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CalendarOutboxRepository extends JpaRepository<CalendarOutboxEntry, String> {
+    // changes are written in the transaction of the caller, so they are discarded on rollback.
+    // A newer change replaces a pending one, unchanged content is not synchronized again
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "calendar_outbox"))
+    @Query(
+            value = "INSERT INTO calendar_outbox (event_id, content, revision, attempts, next_attempt_at, updated_at) " +
+                    "VALUES (:eventId, :content, 1, 0, :now, :now) " +
+                    "ON CONFLICT (event_id) DO UPDATE SET " +
+                    "content = EXCLUDED.content, revision = calendar_outbox.revision + 1, attempts = 0, " +
+                    "next_attempt_at = EXCLUDED.next_attempt_at, last_error = NULL, updated_at = EXCLUDED.updated_at " +
+                    "WHERE calendar_outbox.content IS DISTINCT FROM EXCLUDED.content",
+            nativeQuery = true
+    )
+    int upsertEvent(@Param("eventId") String eventId, @Param("content") String content, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "calendar_outbox"))
+    @Query(
+            value = "INSERT INTO calendar_outbox (event_id, content, revision, attempts, next_attempt_at, updated_at) " +
+                    "VALUES (:eventId, NULL, 1, 0, :now, :now) " +
+                    "ON CONFLICT (event_id) DO UPDATE SET " +
+                    "content = NULL, revision = calendar_outbox.revision + 1, attempts = 0, " +
+                    "next_attempt_at = EXCLUDED.next_attempt_at, last_error = NULL, updated_at = EXCLUDED.updated_at " +
+                    "WHERE calendar_outbox.content IS NOT NULL",
+            nativeQuery = true
+    )
+    int upsertDeletion(@Param("eventId") String eventId, @Param("now") Instant now);
+
+    // claimed entries are only due again if the worker that claimed them did not finish in time
+    // lock timeout -2 is translated to SKIP LOCKED, so multiple instances never claim the same entry
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM CalendarOutboxEntry e WHERE e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt ASC")
+    List<CalendarOutboxEntry> findDueEntries(@Param("now") Instant now, Pageable page);
+
+    // the revision check keeps changes that were written while the entry was synchronized pending
+    @Modifying
+    @Transactional
+    @Query(
+            "UPDATE CalendarOutboxEntry e SET e.etag = :etag, e.attempts = 0, e.nextAttemptAt = NULL, e.lastError = NULL " +
+            "WHERE e.eventId = :eventId AND e.revision = :revision"
+    )
+    int markSynchronized(@Param("eventId") String eventId, @Param("revision") long revision, @Param("etag") String etag);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE CalendarOutboxEntry e SET e.etag = :etag WHERE e.eventId = :eventId")
+    int updateEtag(@Param("eventId") String eventId, @Param("etag") String etag);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CalendarOutboxEntry e WHERE e.eventId = :eventId AND e.revision = :revision")
+    int deleteSynchronized(@Param("eventId") String eventId, @Param("revision") long revision);
+
+    @Modifying
+    @Transactional
+    @Query(
+            "UPDATE CalendarOutboxEntry e SET e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError " +
+            "WHERE e.eventId = :eventId AND e.revision = :revision"
+    )
+    int scheduleRetry(
+            @Param("eventId") String eventId,
+            @Param("revision") long revision,
+            @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("lastError") String lastError
+    );
+}
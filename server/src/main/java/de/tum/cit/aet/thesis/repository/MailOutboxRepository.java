@@ -0,0 +1,37 @@
+package de.tum.cit.aet.thesis.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntry, UUID> {
+    // SENDING entries are only due again if the worker that claimed them did not finish in time
+    // lock timeout -2 is translated to SKIP LOCKED, so multiple instances never claim the same entry
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query(
+            "SELECT e FROM MailOutboxEntry e WHERE " +
+            "e.state IN ('PENDING', 'SENDING') AND " +
+            "e.nextAttemptAt <= :now " +
+            "ORDER BY e.nextAttemptAt ASC"
+    )
+    List<MailOutboxEntry> findDueEntries(@Param("now") Instant now, Pageable page);
+
+    long countByState(MailOutboxState state);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MailOutboxEntry e WHERE e.state = 'SENT' AND e.sentAt < :sentBefore")
+    int deleteSentEntries(@Param("sentBefore") Instant sentBefore);
+}
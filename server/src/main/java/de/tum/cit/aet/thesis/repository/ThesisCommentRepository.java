@@ -2,6 +2,7 @@ package de.tum.cit.aet.thesis.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Repository;
 import de.tum.cit.aet.thesis.constants.ThesisCommentType;
 import de.tum.cit.aet.thesis.entity.ThesisComment;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -23,4 +26,25 @@ public interface ThesisCommentRepository extends JpaRepository<ThesisComment, UU
             @Param("commentType") ThesisCommentType commentType,
             Pageable page
     );
+
+    @Query(
+            "SELECT c FROM ThesisComment c WHERE " +
+            "c.thesis.id = :thesisId AND c.type = :commentType AND " +
+            "(:afterId IS NULL OR c.createdAt < :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id < :afterId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC"
+    )
+    Slice<ThesisComment> scrollComments(
+            @Param("thesisId") UUID thesisId,
+            @Param("commentType") ThesisCommentType commentType,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Pageable page
+    );
+
+    @Query(
+            "SELECT c FROM ThesisComment c WHERE " +
+            "c.thesis.id = :thesisId AND c.filename IS NOT NULL " +
+            "ORDER BY c.createdAt ASC"
+    )
+    List<ThesisComment> findCommentsWithFile(@Param("thesisId") UUID thesisId);
 }
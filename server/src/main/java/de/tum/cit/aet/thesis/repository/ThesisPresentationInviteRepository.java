@@ -1,14 +1,25 @@
 package de.tum.cit.aet.thesis.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import de.tum.cit.aet.thesis.entity.ThesisPresentationInvite;
 import de.tum.cit.aet.thesis.entity.key.ThesisPresentationInviteId;
+import de.tum.cit.aet.thesis.repository.projection.CalendarAttendeeProjection;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 
 @Repository
 public interface ThesisPresentationInviteRepository extends JpaRepository<ThesisPresentationInvite, ThesisPresentationInviteId> {
     void deleteByPresentationId(UUID id);
+
+    @Query(
+            "SELECT i.id.presentationId AS id, i.id.email AS email FROM ThesisPresentationInvite i " +
+            "WHERE i.id.presentationId IN :presentationIds ORDER BY i.id.email"
+    )
+    List<CalendarAttendeeProjection> findCalendarAttendees(@Param("presentationIds") Collection<UUID> presentationIds);
 }
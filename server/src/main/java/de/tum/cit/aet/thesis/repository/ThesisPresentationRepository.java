@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import de.tum.cit.aet.thesis.constants.ThesisPresentationState;
 import de.tum.cit.aet.thesis.constants.ThesisPresentationVisibility;
 import de.tum.cit.aet.thesis.entity.ThesisPresentation;
+import de.tum.cit.aet.thesis.repository.projection.CalendarPresentationProjection;
 
 import java.time.Instant;
 import java.util.List;
@@ -30,8 +31,17 @@ public interface ThesisPresentationRepository extends JpaRepository<ThesisPresen
             Pageable page
     );
 
-    @Query("SELECT p FROM ThesisPresentation p WHERE (:visibilities IS NULL OR p.visibility IN :visibilities)")
-    List<ThesisPresentation> findAllPresentations(
-            @Param("visibilities") Set<ThesisPresentationVisibility> visibilities
+    @Query(
+            "SELECT p.id AS presentationId, t.id AS thesisId, t.title AS title, t.abstractField AS abstractText, " +
+                    "p.location AS location, p.streamUrl AS streamUrl, p.language AS language, p.scheduledAt AS scheduledAt " +
+            "FROM ThesisPresentation p JOIN p.thesis t WHERE " +
+                    "p.scheduledAt BETWEEN :from AND :to AND " +
+                    "(:visibilities IS NULL OR p.visibility IN :visibilities) " +
+            "ORDER BY p.scheduledAt, p.id"
+    )
+    List<CalendarPresentationProjection> findCalendarPresentations(
+            @Param("visibilities") Set<ThesisPresentationVisibility> visibilities,
+            @Param("from") Instant from,
+            @Param("to") Instant to
     );
 }
@@ -2,52 +2,106 @@ package de.tum.cit.aet.thesis.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.ThesisState;
-import de.tum.cit.aet.thesis.constants.ThesisVisibility;
 import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.repository.projection.DashboardThesisProjection;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface ThesisRepository extends JpaRepository<Thesis, UUID> {
-    @Query(
-            "SELECT DISTINCT t FROM Thesis t LEFT JOIN ThesisRole r ON (t.id = r.thesis.id) WHERE " +
-            "(:userId IS NULL OR r.user.id = :userId) AND " +
-            "(:visibilities IS NULL OR t.visibility IN :visibilities OR r.user.id = :userId) AND " +
-            "(:states IS NULL OR t.state IN :states) AND " +
-            "(:types IS NULL OR t.type IN :types) AND " +
-            "(:searchQuery IS NULL OR LOWER(t.title) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.firstName) || ' ' || LOWER(r.user.lastName) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.email) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.matriculationNumber) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.universityId) LIKE %:searchQuery%)"
+    // the uncorrelated ARRAY subqueries run once and keep every OR branch indexable,
+    // correlated EXISTS subqueries would be evaluated once per thesis
+    String SEARCH_THESES_FILTER =
+            "(CAST(:userId AS UUID) IS NULL OR " +
+            "t.thesis_id = ANY(ARRAY(SELECT r.thesis_id FROM thesis_roles r WHERE r.user_id = CAST(:userId AS UUID)))) AND " +
+            "(CAST(:visibilities AS TEXT[]) IS NULL OR t.visibility = ANY(CAST(:visibilities AS TEXT[])) OR " +
+            "t.thesis_id = ANY(ARRAY(SELECT r.thesis_id FROM thesis_roles r WHERE r.user_id = CAST(:userId AS UUID)))) AND " +
+            "(CAST(:states AS TEXT[]) IS NULL OR t.state = ANY(CAST(:states AS TEXT[]))) AND " +
+            "(CAST(:types AS TEXT[]) IS NULL OR t.type = ANY(CAST(:types AS TEXT[]))) AND " +
+            "(CAST(:searchQuery AS TEXT) IS NULL OR t.search_vector @@ to_tsquery('simple', CAST(:textQuery AS TEXT)) OR " +
+            "t.thesis_id = ANY(ARRAY(SELECT r.thesis_id FROM thesis_roles r JOIN users u ON (u.user_id = r.user_id) WHERE " +
+            "u.search_text LIKE CONCAT('%', :searchQuery, '%'))))";
+
+    // title, keywords, abstract and info are matched through the search_vector column maintained by a trigger,
+    // people are matched by substring on the trigram indexed search_text so partial names and ids keep working
+    @Query(value =
+            "SELECT t.* FROM theses t WHERE " + SEARCH_THESES_FILTER + " " +
+            "ORDER BY CASE WHEN CAST(:searchQuery AS TEXT) IS NULL THEN 0 " +
+            "ELSE ts_rank(t.search_vector, to_tsquery('simple', CAST(:textQuery AS TEXT))) END DESC",
+            countQuery = "SELECT COUNT(*) FROM theses t WHERE " + SEARCH_THESES_FILTER,
+            nativeQuery = true
     )
     Page<Thesis> searchTheses(
             @Param("userId") UUID userId,
-            @Param("visibilities") Set<ThesisVisibility> visibilities,
+            @Param("visibilities") String[] visibilities,
             @Param("searchQuery") String searchQuery,
-            @Param("states") Set<ThesisState> states,
-            @Param("types") Set<String> types,
+            @Param("textQuery") String textQuery,
+            @Param("states") String[] states,
+            @Param("types") String[] types,
             Pageable page
     );
 
-    @Query(
-            "SELECT DISTINCT t FROM Thesis t LEFT JOIN ThesisRole r ON (t.id = r.thesis.id) WHERE " +
-            "(t.state != 'FINISHED' AND t.state != 'DROPPED_OUT') AND " +
-            "(:userId IS NULL OR r.user.id = :userId) AND " +
-            "(:roleNames IS NULL OR r.id.role IN :roleNames) AND " +
-            "(:states IS NULL OR t.state IN :states)"
+    // seeks past the cursor on (created_at, thesis_id) instead of skipping rows and does not count the matches
+    @Query(value =
+            "SELECT t.* FROM theses t WHERE " + SEARCH_THESES_FILTER + " AND " +
+            "(CAST(:afterId AS UUID) IS NULL OR " +
+            "(:ascending = TRUE AND (t.created_at, t.thesis_id) > (CAST(:afterCreatedAt AS TIMESTAMP), CAST(:afterId AS UUID))) OR " +
+            "(:ascending = FALSE AND (t.created_at, t.thesis_id) < (CAST(:afterCreatedAt AS TIMESTAMP), CAST(:afterId AS UUID))))",
+            nativeQuery = true
     )
-    List<Thesis> findActiveThesesForRole(
+    Slice<Thesis> scrollTheses(
             @Param("userId") UUID userId,
-            @Param("roleNames") Set<ThesisRoleName> roleNames,
-            @Param("states") Set<ThesisState> states
+            @Param("visibilities") String[] visibilities,
+            @Param("searchQuery") String searchQuery,
+            @Param("textQuery") String textQuery,
+            @Param("states") String[] states,
+            @Param("types") String[] types,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            @Param("ascending") boolean ascending,
+            Pageable page
+    );
+
+    @Query(
+            "SELECT DISTINCT t FROM Thesis t " +
+            "LEFT JOIN FETCH t.roles r " +
+            "LEFT JOIN FETCH r.user " +
+            "WHERE t.id IN :thesisIds"
+    )
+    List<Thesis> fetchRolesByThesisIds(@Param("thesisIds") Collection<UUID> thesisIds);
+
+    @Query(
+            "SELECT t.id AS thesisId, t.title AS title, t.state AS state, r.id.role AS role, " +
+            "t.startDate AS startDate, t.endDate AS endDate, " +
+            "CASE WHEN function('textregexeq', t.abstractField, '^[[:space:]]*$') = true OR " +
+            "function('textregexeq', t.info, '^[[:space:]]*$') = true THEN true ELSE false END AS missingInformation, " +
+            "(SELECT COUNT(p) FROM ThesisProposal p WHERE p.thesis.id = t.id) AS proposalCount, " +
+            "(SELECT COUNT(p) FROM ThesisPresentation p WHERE p.thesis.id = t.id) AS presentationCount, " +
+            "(SELECT COUNT(p) FROM ThesisPresentation p WHERE p.thesis.id = t.id AND p.state = 'DRAFTED') AS draftedPresentationCount " +
+            "FROM ThesisRole r JOIN r.thesis t WHERE " +
+            "r.user.id = :userId AND " +
+            "t.state != 'FINISHED' AND t.state != 'DROPPED_OUT'"
+    )
+    List<DashboardThesisProjection> findActiveDashboardTheses(@Param("userId") UUID userId);
+
+    @Query(
+            "SELECT t.id FROM Thesis t WHERE " +
+            "t.state IN :states AND t.endDate >= :endsAfter AND t.endDate < :endsBefore " +
+            "ORDER BY t.endDate ASC, t.id ASC"
+    )
+    List<UUID> findExportThesisIds(
+            @Param("states") Set<ThesisState> states,
+            @Param("endsAfter") Instant endsAfter,
+            @Param("endsBefore") Instant endsBefore
     );
 }
@@ -1,10 +1,14 @@
 package de.tum.cit.aet.thesis.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import de.tum.cit.aet.thesis.entity.ThesisRole;
 import de.tum.cit.aet.thesis.entity.key.ThesisRoleId;
+import de.tum.cit.aet.thesis.repository.projection.CalendarAttendeeProjection;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +16,15 @@ import java.util.UUID;
 @Repository
 public interface ThesisRoleRepository extends JpaRepository<ThesisRole, ThesisRoleId> {
     List<ThesisRole> deleteByThesisId(UUID thesisId);
+
+    // same order as Thesis.getRoles(): by position, roles with the same position in the order they are assigned
+    @Query(
+            "SELECT r.id.thesisId AS id, r.user.email AS email FROM ThesisRole r " +
+            "WHERE r.id.thesisId IN :thesisIds " +
+            "ORDER BY r.position, CASE r.id.role " +
+            "WHEN de.tum.cit.aet.thesis.constants.ThesisRoleName.SUPERVISOR THEN 0 " +
+            "WHEN de.tum.cit.aet.thesis.constants.ThesisRoleName.ADVISOR THEN 1 " +
+            "ELSE 2 END"
+    )
+    List<CalendarAttendeeProjection> findCalendarAttendees(@Param("thesisIds") Collection<UUID> thesisIds);
 }
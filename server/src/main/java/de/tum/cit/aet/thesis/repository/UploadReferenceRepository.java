@@ -0,0 +1,40 @@
+package de.tum.cit.aet.thesis.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import de.tum.cit.aet.thesis.entity.UploadReference;
+
+import java.util.Set;
+
+@Repository
+public interface UploadReferenceRepository extends JpaRepository<UploadReference, String> {
+    @Modifying
+    @Transactional
+    @Query(value =
+            "WITH refs AS (" +
+            "    SELECT f.filename, COUNT(*) AS reference_count FROM (" +
+            "        SELECT avatar AS filename FROM users WHERE avatar IS NOT NULL " +
+            "        UNION ALL SELECT cv_filename FROM users WHERE cv_filename IS NOT NULL " +
+            "        UNION ALL SELECT degree_filename FROM users WHERE degree_filename IS NOT NULL " +
+            "        UNION ALL SELECT examination_filename FROM users WHERE examination_filename IS NOT NULL " +
+            "        UNION ALL SELECT proposal_filename FROM thesis_proposals " +
+            "        UNION ALL SELECT filename FROM thesis_files " +
+            "        UNION ALL SELECT filename FROM thesis_comments WHERE filename IS NOT NULL" +
+            "    ) f GROUP BY f.filename" +
+            "), removed AS (" +
+            "    DELETE FROM upload_references u WHERE NOT EXISTS (SELECT 1 FROM refs WHERE refs.filename = u.filename)" +
+            ") " +
+            "INSERT INTO upload_references (filename, reference_count, updated_at) " +
+            "SELECT refs.filename, refs.reference_count, NOW() FROM refs " +
+            "ON CONFLICT (filename) DO UPDATE SET reference_count = EXCLUDED.reference_count, updated_at = EXCLUDED.updated_at " +
+            "WHERE upload_references.reference_count <> EXCLUDED.reference_count",
+            nativeQuery = true
+    )
+    int refreshReferenceCounts();
+
+    @Query("SELECT r.filename FROM UploadReference r WHERE r.referenceCount > 0")
+    Set<String> findReferencedFilenames();
+}
@@ -2,12 +2,15 @@ package de.tum.cit.aet.thesis.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import de.tum.cit.aet.thesis.entity.User;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,16 +20,40 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUniversityId(String universityId);
 
+    String SEARCH_USERS_FILTER =
+            "(:groups IS NULL OR EXISTS (SELECT g FROM UserGroup g WHERE g.id.userId = u.id AND g.id.group IN :groups)) AND " +
+            "(:searchQuery IS NULL OR u.searchText LIKE %:searchQuery%)";
+
+    @Query("SELECT u FROM User u WHERE " + SEARCH_USERS_FILTER)
+    Page<User> searchUsers(@Param("searchQuery") String searchQuery, @Param("groups") Set<String> groups, Pageable page);
+
+    // seeks past the cursor on (joinedAt, id) instead of skipping rows and does not count the matches
     @Query(
-            "SELECT DISTINCT u FROM User u LEFT JOIN UserGroup g ON (u.id = g.id.userId) WHERE " +
-            "(:groups IS NULL OR g.id.group IN :groups) AND " +
-            "(:searchQuery IS NULL OR LOWER(u.firstName) || ' ' || LOWER(u.lastName) LIKE %:searchQuery% OR " +
-            "LOWER(u.email) LIKE %:searchQuery% OR " +
-            "LOWER(u.matriculationNumber) LIKE %:searchQuery% OR " +
-            "LOWER(u.universityId) LIKE %:searchQuery%)"
+            "SELECT u FROM User u WHERE " + SEARCH_USERS_FILTER + " AND " +
+            "(:afterId IS NULL OR " +
+            "(:ascending = true AND (u.joinedAt > :afterJoinedAt OR (u.joinedAt = :afterJoinedAt AND u.id > :afterId))) OR " +
+            "(:ascending = false AND (u.joinedAt < :afterJoinedAt OR (u.joinedAt = :afterJoinedAt AND u.id < :afterId))))"
     )
-    Page<User> searchUsers(@Param("searchQuery") String searchQuery, @Param("groups") Set<String> groups, Pageable page);
+    Slice<User> scrollUsers(
+            @Param("searchQuery") String searchQuery,
+            @Param("groups") Set<String> groups,
+            @Param("afterJoinedAt") Instant afterJoinedAt,
+            @Param("afterId") UUID afterId,
+            @Param("ascending") boolean ascending,
+            Pageable page
+    );
+
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.notificationSettings WHERE u.id IN :userIds")
+    List<User> findAllWithNotificationSettingsByIds(@Param("userIds") Collection<UUID> userIds);
 
     @Query("SELECT DISTINCT u FROM User u LEFT JOIN UserGroup g ON (u.id = g.id.userId) WHERE g.id.group IN :roles")
     List<User> getRoleMembers(@Param("roles") Set<String> roles);
+
+    @Query(
+            "SELECT DISTINCT u.email FROM User u LEFT JOIN UserGroup g ON (u.id = g.id.userId) WHERE " +
+            "g.id.group IN :roles AND " +
+            "u.email IS NOT NULL AND " +
+            "NOT EXISTS (SELECT s FROM NotificationSetting s WHERE s.id.userId = u.id AND s.id.name = :notificationName AND s.email = 'none')"
+    )
+    List<String> getNotificationEmails(@Param("roles") Set<String> roles, @Param("notificationName") String notificationName);
 }
@@ -0,0 +1,9 @@
+package de.tum.cit.aet.thesis.repository.projection;
+
+import java.util.UUID;
+
+public interface ApplicationTopicProjection {
+    UUID getApplicationId();
+
+    String getTopicTitle();
+}
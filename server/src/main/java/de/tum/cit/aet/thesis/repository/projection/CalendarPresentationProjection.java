@@ -0,0 +1,22 @@
+package de.tum.cit.aet.thesis.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface CalendarPresentationProjection {
+    UUID getPresentationId();
+
+    UUID getThesisId();
+
+    String getTitle();
+
+    String getAbstractText();
+
+    String getLocation();
+
+    String getStreamUrl();
+
+    String getLanguage();
+
+    Instant getScheduledAt();
+}
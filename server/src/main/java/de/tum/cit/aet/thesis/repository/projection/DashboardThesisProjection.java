@@ -0,0 +1,29 @@
+package de.tum.cit.aet.thesis.repository.projection;
+
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface DashboardThesisProjection {
+    UUID getThesisId();
+
+    String getTitle();
+
+    ThesisState getState();
+
+    ThesisRoleName getRole();
+
+    Instant getStartDate();
+
+    Instant getEndDate();
+
+    boolean getMissingInformation();
+
+    long getProposalCount();
+
+    long getPresentationCount();
+
+    long getDraftedPresentationCount();
+}
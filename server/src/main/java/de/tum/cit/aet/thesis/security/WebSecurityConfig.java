@@ -2,6 +2,7 @@ package de.tum.cit.aet.thesis.security;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -16,6 +17,8 @@ import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.session.RegisterSessionAuthenticationStrategy;
 import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -31,6 +34,12 @@ public class WebSecurityConfig {
     @Value("${thesis-management.client.host}")
     private String clientHost;
 
+    @Value("${server.port:8080}")
+    private Integer serverPort;
+
+    @Value("${management.server.port:#{null}}")
+    private Integer managementPort;
+
     @Bean
     protected SessionAuthenticationStrategy sessionAuthenticationStrategy() {
         return new RegisterSessionAuthenticationStrategy(new SessionRegistryImpl());
@@ -38,6 +47,14 @@ public class WebSecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource) throws Exception {
+        // a separate management port is only reachable from inside the cluster, so scrapers need no token there.
+        // the setting is ignored if it points to the application port, otherwise the whole api would be public
+        boolean separateManagementPort = managementPort != null && !managementPort.equals(serverPort);
+        RequestMatcher managementPortEndpoints = new AndRequestMatcher(
+                EndpointRequest.toAnyEndpoint(),
+                request -> separateManagementPort && request.getLocalPort() == managementPort
+        );
+
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .csrf(AbstractHttpConfigurer::disable)
@@ -50,6 +67,8 @@ public class WebSecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/v2/avatars/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/actuator/info").permitAll()
                         .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(managementPortEndpoints).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").hasRole("admin")
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(server -> {
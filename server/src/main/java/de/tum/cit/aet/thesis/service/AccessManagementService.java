@@ -1,5 +1,6 @@
 package de.tum.cit.aet.thesis.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.utility.OutboundRequestMetrics;
 
 import org.springframework.http.HttpHeaders;
 
@@ -37,7 +39,8 @@ public class AccessManagementService {
             @Value("${thesis-management.keycloak.realm-name}") String keycloakRealmName,
             @Value("${thesis-management.keycloak.service-client.id}") String serviceClientId,
             @Value("${thesis-management.keycloak.service-client.secret}") String serviceClientSecret,
-            @Value("${thesis-management.keycloak.service-client.student-group-name}") String studentGroupName
+            @Value("${thesis-management.keycloak.service-client.student-group-name}") String studentGroupName,
+            MeterRegistry meterRegistry
     ) {
         this.keycloakRealmName = keycloakRealmName;
         this.serviceClientId = serviceClientId;
@@ -45,6 +48,7 @@ public class AccessManagementService {
 
         this.webClient = WebClient.builder()
                 .baseUrl(keycloakHost)
+                .filter(OutboundRequestMetrics.filter(meterRegistry, "keycloak"))
                 .build();
 
         UUID studentGroupId = null;
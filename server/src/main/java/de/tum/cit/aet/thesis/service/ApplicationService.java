@@ -3,6 +3,7 @@ package de.tum.cit.aet.thesis.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,9 +17,12 @@ import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.ApplicationReviewerRepository;
 import de.tum.cit.aet.thesis.repository.TopicRepository;
+import de.tum.cit.aet.thesis.repository.projection.ApplicationTopicProjection;
+import de.tum.cit.aet.thesis.utility.KeysetCursor;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Predicate;
 
 @Service
 public class ApplicationService {
@@ -28,6 +32,8 @@ public class ApplicationService {
     private final ThesisService thesisService;
     private final TopicService topicService;
     private final ApplicationReviewerRepository applicationReviewerRepository;
+    private final ResponseCacheService responseCacheService;
+    private final DashboardService dashboardService;
 
     @Autowired
     public ApplicationService(
@@ -36,13 +42,17 @@ public class ApplicationService {
             TopicRepository topicRepository,
             ThesisService thesisService,
             TopicService topicService,
-            ApplicationReviewerRepository applicationReviewerRepository) {
+            ApplicationReviewerRepository applicationReviewerRepository,
+            ResponseCacheService responseCacheService,
+            DashboardService dashboardService) {
         this.applicationRepository = applicationRepository;
         this.mailingService = mailingService;
         this.topicRepository = topicRepository;
         this.thesisService = thesisService;
         this.topicService = topicService;
         this.applicationReviewerRepository = applicationReviewerRepository;
+        this.responseCacheService = responseCacheService;
+        this.dashboardService = dashboardService;
     }
 
     public Page<Application> getAll(
@@ -80,6 +90,70 @@ public class ApplicationService {
         );
     }
 
+    public Slice<Application> scrollAll(
+            UUID userId,
+            UUID reviewerId,
+            String searchQuery,
+            ApplicationState[] states,
+            String[] previous,
+            String[] topics,
+            String[] types,
+            boolean includeSuggestedTopics,
+            KeysetCursor after,
+            int limit,
+            String sortBy,
+            String sortOrder
+    ) {
+        if (!sortBy.equals("createdAt")) {
+            throw new ResourceInvalidParametersException("Cursor pagination only supports sorting by createdAt");
+        }
+
+        Sort.Direction direction = sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
+        Set<ApplicationState> statesFilter = states == null || states.length == 0 ? null : new HashSet<>(Arrays.asList(states));
+        Set<String> topicsFilter = topics == null || topics.length == 0 ? null : new HashSet<>(Arrays.asList(topics));
+        Set<String> typesFilter = types == null || types.length == 0 ? null : new HashSet<>(Arrays.asList(types));
+        Set<String> previousFilter = previous == null || previous.length == 0 ? null : new HashSet<>(Arrays.asList(previous));
+
+        return applicationRepository.scrollApplications(
+                userId,
+                statesFilter != null && !statesFilter.contains(ApplicationState.REJECTED) ? reviewerId : null,
+                searchQueryFilter,
+                statesFilter,
+                previousFilter,
+                topicsFilter,
+                typesFilter,
+                includeSuggestedTopics,
+                after == null ? null : after.sortValue(),
+                after == null ? null : after.id(),
+                direction == Sort.Direction.ASC,
+                PageRequest.of(0, limit, Sort.by(direction, "createdAt", "id"))
+        );
+    }
+
+    // loads the topics of a list page with their roles in one statement, applicants and reviewers are batch fetched
+    public void fetchTopics(Slice<Application> applications) {
+        if (!applications.isEmpty()) {
+            applicationRepository.fetchTopicsByApplicationIds(applications.map(Application::getId).toList());
+        }
+    }
+
+    // summaries only show the topic title, so the topics of a list page are not loaded as entities
+    public Map<UUID, String> getTopicTitles(Slice<Application> applications) {
+        if (applications.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, String> topicTitles = new HashMap<>();
+
+        for (ApplicationTopicProjection topic : applicationRepository.findTopicTitlesByApplicationIds(applications.map(Application::getId).toList())) {
+            topicTitles.put(topic.getApplicationId(), topic.getTopicTitle());
+        }
+
+        return topicTitles;
+    }
+
     @Transactional
     public Application createApplication(User user, UUID topicId, String thesisTitle, String thesisType, Instant desiredStartDate, String motivation) {
         Topic topic = topicId == null ? null : topicService.findById(topicId);
@@ -102,6 +176,8 @@ public class ApplicationService {
 
         application = applicationRepository.save(application);
 
+        dashboardService.invalidateTasks();
+
         mailingService.sendApplicationCreatedEmail(application);
 
         return application;
@@ -161,6 +237,8 @@ public class ApplicationService {
             result.addAll(rejectApplicationsForTopic(reviewingUser, topic, ApplicationRejectReason.TOPIC_FILLED, true));
 
             application.setTopic(topicRepository.save(topic));
+
+            responseCacheService.invalidate(ResponseCacheService.Section.TOPICS);
         }
 
         if (notifyUser) {
@@ -213,23 +291,85 @@ public class ApplicationService {
 
         rejectApplicationsForTopic(closer, topic, reason, notifyUser);
 
+        responseCacheService.invalidate(ResponseCacheService.Section.TOPICS);
+        dashboardService.invalidateTasks();
+
         return topicRepository.save(topic);
     }
 
     @Transactional
     public List<Application> rejectApplicationsForTopic(User closer, Topic topic, ApplicationRejectReason reason, boolean notifyUser) {
-        List<Application> applications = applicationRepository.findAllByTopic(topic);
-        List<Application> result = new ArrayList<>();
+        List<UUID> applicationIds = applicationRepository.findPendingApplicationIdsByTopic(
+                topic.getId(),
+                reason == ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS
+        );
 
-        for (Application application : applications) {
-            if (application.getState() != ApplicationState.NOT_ASSESSED) {
-                continue;
-            }
+        return rejectPendingApplications(
+                closer,
+                applicationIds,
+                reason,
+                notifyUser,
+                application -> application.getTopic() != null && application.getTopic().getId().equals(topic.getId())
+        );
+    }
+
+    @Transactional
+    public List<Application> rejectApplications(User reviewingUser, Set<UUID> applicationIds, ApplicationRejectReason reason, boolean notifyUser) {
+        List<UUID> pendingApplicationIds = applicationRepository.findPendingApplicationIds(
+                applicationIds,
+                reason == ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS
+        );
+
+        return rejectPendingApplications(
+                reviewingUser,
+                pendingApplicationIds,
+                reason,
+                notifyUser,
+                application -> applicationIds.contains(application.getId())
+        );
+    }
 
-            result.addAll(reject(closer, application, reason, notifyUser));
+    @Transactional
+    public List<Application> reviewApplications(User reviewer, Set<UUID> applicationIds, ApplicationReviewReason reason) {
+        if (reason == ApplicationReviewReason.NOT_REVIEWED) {
+            applicationReviewerRepository.deleteReviews(applicationIds, reviewer.getId());
+        } else {
+            applicationReviewerRepository.upsertReviews(applicationIds, reviewer.getId(), reason.getValue(), Instant.now());
         }
 
-        return result;
+        dashboardService.invalidateTasks();
+
+        return applicationRepository.findAllWithReviewersByIds(applicationIds);
+    }
+
+    // the state and review changes are written with one statement each before the applications are loaded,
+    // so the persistence context never holds outdated copies and the mails are rendered after commit
+    private List<Application> rejectPendingApplications(
+            User reviewingUser,
+            List<UUID> applicationIds,
+            ApplicationRejectReason reason,
+            boolean notifyUser,
+            Predicate<Application> notifiedApplications
+    ) {
+        if (applicationIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Instant reviewedAt = Instant.now();
+
+        applicationRepository.rejectApplications(applicationIds, reason, reviewedAt);
+        applicationReviewerRepository.upsertReviews(applicationIds, reviewingUser.getId(), ApplicationReviewReason.NOT_INTERESTED.getValue(), reviewedAt);
+        dashboardService.invalidateTasks();
+
+        List<Application> applications = applicationRepository.findAllWithReviewersByIds(applicationIds);
+
+        // other pending applications of applicants that failed the requirements are rejected silently,
+        // so the applicant only gets a mail for the application that was actually reviewed
+        if (notifyUser) {
+            mailingService.sendApplicationRejectionEmails(applications.stream().filter(notifiedApplications).toList(), reason);
+        }
+
+        return new ArrayList<>(applications);
     }
 
     @Transactional
@@ -262,6 +402,8 @@ public class ApplicationService {
             application.getReviewers().add(entity);
         }
 
+        dashboardService.invalidateTasks();
+
         return applicationRepository.save(application);
     }
 
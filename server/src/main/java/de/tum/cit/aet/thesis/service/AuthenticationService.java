@@ -1,9 +1,17 @@
 package de.tum.cit.aet.thesis.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import de.tum.cit.aet.thesis.constants.UploadFileType;
 import de.tum.cit.aet.thesis.entity.NotificationSetting;
@@ -16,27 +24,62 @@ import de.tum.cit.aet.thesis.repository.NotificationSettingRepository;
 import de.tum.cit.aet.thesis.repository.UserGroupRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
 @Service
 public class AuthenticationService {
+    private static final Duration AUTHENTICATED_USER_CACHE_TTL = Duration.ofSeconds(30);
+    private static final long AUTHENTICATED_USER_CACHE_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final UserGroupRepository userGroupRepository;
     private final UploadService uploadService;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final EntityCacheService entityCacheService;
+    private final EntityManager entityManager;
+
+    private final Cache<String, User> authenticatedUsers = Caffeine.newBuilder()
+            .maximumSize(AUTHENTICATED_USER_CACHE_SIZE)
+            .expireAfterWrite(AUTHENTICATED_USER_CACHE_TTL)
+            .recordStats()
+            .build();
 
     @Autowired
-    public AuthenticationService(UserRepository userRepository, UserGroupRepository userGroupRepository, UploadService uploadService, NotificationSettingRepository notificationSettingRepository) {
+    public AuthenticationService(UserRepository userRepository, UserGroupRepository userGroupRepository, UploadService uploadService, NotificationSettingRepository notificationSettingRepository, EntityCacheService entityCacheService, EntityManager entityManager, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.userGroupRepository = userGroupRepository;
         this.uploadService = uploadService;
         this.notificationSettingRepository = notificationSettingRepository;
+        this.entityCacheService = entityCacheService;
+        this.entityManager = entityManager;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, authenticatedUsers, "authenticated_users");
     }
 
     public User getAuthenticatedUser(JwtAuthenticationToken jwt) {
-        return userRepository.findByUniversityId(getUniversityId(jwt))
-                .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found"));
+        User user = authenticatedUsers.get(getUniversityId(jwt), universityId -> {
+            User entity = userRepository.findByUniversityId(universityId).orElse(null);
+
+            // cached users are shared between requests, so they are detached from the loading request together with
+            // their collections and must not be modified. Write operations load a fresh entity instead.
+            if (entity != null) {
+                Hibernate.initialize(entity.getNotificationSettings());
+
+                entity.getNotificationSettings().forEach(entityManager::detach);
+                entity.getGroups().forEach(entityManager::detach);
+                entityManager.detach(entity);
+            }
+
+            return entity;
+        });
+
+        if (user == null) {
+            throw new ResourceNotFoundException("Authenticated user not found");
+        }
+
+        return user;
     }
 
     @Transactional
@@ -97,11 +140,16 @@ public class AuthenticationService {
 
         user.setGroups(userGroups);
 
-        return userRepository.save(user);
+        user = userRepository.save(user);
+
+        invalidateAuthenticatedUser(universityId);
+        entityCacheService.evictUser(user.getId());
+
+        return user;
     }
 
     public User updateUserInformation(
-            User user,
+            User authenticatedUser,
             String matriculationNumber,
             String firstName,
             String lastName,
@@ -120,6 +168,8 @@ public class AuthenticationService {
             MultipartFile cv,
             MultipartFile degreeReport
     ) {
+        User user = findUser(authenticatedUser.getId());
+
         user.setMatriculationNumber(matriculationNumber);
         user.setFirstName(firstName);
         user.setLastName(lastName);
@@ -142,7 +192,11 @@ public class AuthenticationService {
         user.setCvFilename(cv == null ? null : uploadService.store(cv, 3 * 1024 * 1024, UploadFileType.PDF));
         user.setDegreeFilename(degreeReport == null ? null : uploadService.store(degreeReport, 3 * 1024 * 1024, UploadFileType.PDF));
 
-        return userRepository.save(user);
+        user = userRepository.save(user);
+
+        invalidateAuthenticatedUser(user.getUniversityId());
+
+        return user;
     }
 
     public List<NotificationSetting> getNotificationSettings(User user) {
@@ -150,7 +204,12 @@ public class AuthenticationService {
     }
 
     @Transactional
-    public List<NotificationSetting> updateNotificationSettings(User user, String name, String email) {
+    public List<NotificationSetting> updateNotificationSettings(User authenticatedUser, String name, String email) {
+        User user = findUser(authenticatedUser.getId());
+
+        invalidateAuthenticatedUser(user.getUniversityId());
+        entityCacheService.evictUser(user.getId());
+
         List<NotificationSetting> settings = user.getNotificationSettings();
 
         for (NotificationSetting setting : settings) {
@@ -184,4 +243,28 @@ public class AuthenticationService {
     private String getUniversityId(JwtAuthenticationToken jwt) {
         return jwt.getName();
     }
+
+    private User findUser(UUID userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("User with id %s not found.", userId)));
+    }
+
+    // the entry is dropped right away and again after commit, so a user loaded from the old state
+    // while the transaction is still running does not survive it
+    private void invalidateAuthenticatedUser(String universityId) {
+        if (universityId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    authenticatedUsers.invalidate(universityId);
+                }
+            });
+        }
+
+        authenticatedUsers.invalidate(universityId);
+    }
 }
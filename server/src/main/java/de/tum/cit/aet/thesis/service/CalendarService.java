@@ -1,49 +1,112 @@
 package de.tum.cit.aet.thesis.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.mail.internet.InternetAddress;
 import net.fortuna.ical4j.data.CalendarBuilder;
 import net.fortuna.ical4j.data.ParserException;
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.Property;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.parameter.PartStat;
 import net.fortuna.ical4j.model.parameter.Role;
 import net.fortuna.ical4j.model.parameter.Rsvp;
 import net.fortuna.ical4j.model.property.*;
+import net.fortuna.ical4j.model.property.immutable.ImmutableVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import de.tum.cit.aet.thesis.entity.CalendarOutboxEntry;
+import de.tum.cit.aet.thesis.exception.CalendarException;
+import de.tum.cit.aet.thesis.repository.CalendarOutboxRepository;
+import de.tum.cit.aet.thesis.utility.OutboundRequestMetrics;
 
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Service
 public class CalendarService {
     private static final Logger log = LoggerFactory.getLogger(CalendarService.class);
 
+    private static final int BATCH_SIZE = 20;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+
+    // properties that are derived from the presentation, all other properties of a remotely modified event are kept
+    private static final String[] MANAGED_PROPERTIES = {
+            Property.DTSTAMP,
+            Property.DTSTART,
+            Property.DTEND,
+            Property.SUMMARY,
+            Property.UID,
+            Property.LOCATION,
+            Property.DESCRIPTION,
+            Property.ORGANIZER,
+            Property.ATTENDEE
+    };
+
     private final WebClient webClient;
     private final boolean enabled;
+    private final String calendarUrl;
+    private final CalendarOutboxRepository calendarOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean processingScheduled = new AtomicBoolean(false);
+    private final Object processingLock = new Object();
+
+    // older versions stored all events in a single calendar resource, its events are moved to separate resources
+    // before any other change is synchronized, so the migration never overwrites newer changes
+    private final String legacyCalendarUrl;
+    private volatile boolean legacyCalendarMigrated;
+
+    private record RemoteEvent(Calendar calendar, String etag) {}
 
     public CalendarService(
             @Value("${thesis-management.calendar.enabled}") Boolean enabled,
             @Value("${thesis-management.calendar.url}") String caldavUrl,
+            @Value("${thesis-management.calendar.legacy-url}") String legacyCalendarUrl,
             @Value("${thesis-management.calendar.username}") String caldavUsername,
-            @Value("${thesis-management.calendar.password}") String caldavPassword
+            @Value("${thesis-management.calendar.password}") String caldavPassword,
+            CalendarOutboxRepository calendarOutboxRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            MeterRegistry meterRegistry
     ) {
         this.enabled = enabled;
+        this.calendarUrl = caldavUrl.endsWith("/") ? caldavUrl : caldavUrl + "/";
+        this.legacyCalendarUrl = legacyCalendarUrl == null || legacyCalendarUrl.isBlank() ? null : legacyCalendarUrl;
+        this.legacyCalendarMigrated = this.legacyCalendarUrl == null;
+        this.calendarOutboxRepository = calendarOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
 
         this.webClient = WebClient.builder()
-                .baseUrl(caldavUrl)
                 .defaultHeaders(headers -> headers.setBasicAuth(caldavUsername, caldavPassword))
+                .filter(OutboundRequestMetrics.filter(meterRegistry, "caldav"))
                 .build();
     }
 
@@ -58,24 +121,23 @@ public class CalendarService {
             List<InternetAddress> optionalAttendees
     ) {}
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyCalendar() {
+        if (!legacyCalendarMigrated) {
+            triggerProcessing();
+        }
+    }
+
     public String createEvent(CalendarEvent data) {
         if (!enabled) {
             return null;
         }
 
-        try {
-            Calendar calendar = getCalendar();
-            String eventId = UUID.randomUUID().toString();
-
-            calendar.add(createVEvent(eventId, data));
-            updateCalendar(calendar);
+        String eventId = UUID.randomUUID().toString();
 
-            return eventId;
-        } catch (Exception exception) {
-            log.warn("Failed to create calendar event", exception);
-        }
+        enqueueChange(calendarOutboxRepository.upsertEvent(eventId, createEventContent(eventId, data), Instant.now()));
 
-        return null;
+        return eventId;
     }
 
     public void updateEvent(String eventId, CalendarEvent data) {
@@ -87,17 +149,7 @@ public class CalendarService {
             return;
         }
 
-        try {
-            Calendar calendar = getCalendar();
-            Optional<VEvent> event = findVEvent(calendar, eventId);
-
-            event.ifPresent(calendar::remove);
-            calendar.add(createVEvent(eventId, data));
-
-            updateCalendar(calendar);
-        } catch (Exception exception) {
-            log.warn("Failed to create calendar event", exception);
-        }
+        enqueueChange(calendarOutboxRepository.upsertEvent(eventId, createEventContent(eventId, data), Instant.now()));
     }
 
     public void deleteEvent(String eventId) {
@@ -109,26 +161,48 @@ public class CalendarService {
             return;
         }
 
-        try {
-            Calendar calendar = getCalendar();
-
-            VEvent event = findVEvent(calendar, eventId).orElseThrow();
-            calendar.remove(event);
+        enqueueChange(calendarOutboxRepository.upsertDeletion(eventId, Instant.now()));
+    }
 
-            updateCalendar(calendar);
-        } catch (Exception exception) {
-            log.warn("Failed to delete calendar event", exception);
+    public void triggerProcessing() {
+        if (!enabled || !processingScheduled.compareAndSet(false, true)) {
+            return;
         }
+
+        taskExecutor.execute(() -> {
+            processingScheduled.set(false);
+
+            try {
+                processOutbox();
+            } catch (Exception exception) {
+                log.warn("Failed to process calendar outbox", exception);
+            }
+        });
     }
 
-    public Optional<VEvent> findVEvent(Calendar calendar, String eventId) {
-        return calendar.getComponents(Component.VEVENT).stream()
-                .map(component -> (VEvent) component)
-                .filter(event -> event.getUid()
-                        .map(Uid::getValue)
-                        .filter(value -> value.equals(eventId))
-                        .isPresent())
-                .findFirst();
+    public int processOutbox() {
+        synchronized (processingLock) {
+            // retried by the next processing run
+            if (!legacyCalendarMigrated && !moveLegacyEvents()) {
+                return 0;
+            }
+
+            int processedEntries = 0;
+
+            while (true) {
+                List<CalendarOutboxEntry> entries = claimDueEntries();
+
+                for (CalendarOutboxEntry entry : entries) {
+                    synchronizeEvent(entry);
+                }
+
+                processedEntries += entries.size();
+
+                if (entries.size() < BATCH_SIZE) {
+                    return processedEntries;
+                }
+            }
+        }
     }
 
     public VEvent createVEvent(String eventId, CalendarEvent data) {
@@ -181,32 +255,304 @@ public class CalendarService {
         return event;
     }
 
-    private Calendar getCalendar() {
-        String response = webClient.method(HttpMethod.GET)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+    // the change is only visible to the workers after the surrounding transaction was committed
+    private void enqueueChange(int changedEntries) {
+        if (changedEntries == 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    triggerProcessing();
+                }
+            });
+        } else {
+            triggerProcessing();
+        }
+    }
+
+    // the content is stored without DTSTAMP, so unchanged events can be detected by comparing the content
+    private String createEventContent(String eventId, CalendarEvent data) {
+        VEvent event = createVEvent(eventId, data);
+        event.removeAll(Property.DTSTAMP);
+
+        Calendar calendar = createCalendar();
+        calendar.add(event);
+
+        return calendar.toString();
+    }
+
+    private List<CalendarOutboxEntry> claimDueEntries() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<CalendarOutboxEntry> entries = calendarOutboxRepository.findDueEntries(now, PageRequest.of(0, BATCH_SIZE));
+
+            for (CalendarOutboxEntry entry : entries) {
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setNextAttemptAt(now.plus(CLAIM_TIMEOUT));
+            }
+
+            return calendarOutboxRepository.saveAll(entries);
+        });
+    }
+
+    private void synchronizeEvent(CalendarOutboxEntry entry) {
+        try {
+            if (entry.getContent() == null) {
+                deleteEventResource(entry.getEventId(), entry.getEtag());
+
+                // a newer change creates the event again, so it must not expect the deleted resource
+                if (calendarOutboxRepository.deleteSynchronized(entry.getEventId(), entry.getRevision()) == 0) {
+                    calendarOutboxRepository.updateEtag(entry.getEventId(), null);
+                }
+            } else {
+                String etag = putEventResource(entry.getEventId(), entry.getContent(), entry.getEtag());
 
-        if (response == null) {
-            throw new RuntimeException("Calendar response was empty");
+                if (calendarOutboxRepository.markSynchronized(entry.getEventId(), entry.getRevision(), etag) == 0) {
+                    calendarOutboxRepository.updateEtag(entry.getEventId(), etag);
+                }
+            }
+        } catch (Exception exception) {
+            log.warn("Failed to synchronize calendar event {}, retrying later", entry.getEventId(), exception);
+
+            calendarOutboxRepository.scheduleRetry(
+                    entry.getEventId(),
+                    entry.getRevision(),
+                    Instant.now().plus(getBackoff(entry.getAttempts())),
+                    exception.getMessage()
+            );
         }
+    }
+
+    private Duration getBackoff(int attempts) {
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 16));
+
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    // returns the ETag of the written resource, or null if the server did not send one
+    private String putEventResource(String eventId, String content, String etag) {
+        Calendar calendar = parseCalendar(content);
+        VEvent event = getEvent(calendar).orElseThrow(() -> new CalendarException("Calendar event content has no event"));
+
+        event.add(new DtStamp(Instant.now()));
 
         try {
-            CalendarBuilder builder = new CalendarBuilder();
-            StringReader reader = new StringReader(response);
+            return putEventResource(eventId, calendar, etag == null ? requireAbsent() : requireETag(etag));
+        } catch (WebClientResponseException exception) {
+            if (exception.getStatusCode().value() != HttpStatus.PRECONDITION_FAILED.value()) {
+                throw exception;
+            }
+        }
 
-            return builder.build(reader);
-        } catch (IOException | ParserException e) {
-            throw new RuntimeException("Failed to parse calendar", e);
+        // the event was modified or created outside the application since the last synchronization,
+        // so the change is applied on top of the current resource. A concurrent modification fails
+        // the conditional request again and is retried later
+        RemoteEvent remoteEvent = getEventResource(eventId);
+
+        if (remoteEvent == null) {
+            return putEventResource(eventId, calendar, requireAbsent());
         }
+
+        log.info("Calendar event {} was modified remotely, applying the change on top of it", eventId);
+
+        return putEventResource(eventId, rebaseEvent(remoteEvent.calendar(), event), requireETag(remoteEvent.etag()));
     }
 
-    private void updateCalendar(Calendar calendar) {
-        webClient.method(HttpMethod.PUT)
+    private String putEventResource(String eventId, Calendar calendar, Consumer<HttpHeaders> conditions) {
+        ResponseEntity<Void> response = webClient.method(HttpMethod.PUT)
+                .uri(getEventUri(eventId))
+                .headers(conditions)
                 .contentType(MediaType.parseMediaType("text/calendar"))
                 .bodyValue(calendar.toString())
                 .retrieve()
-                .bodyToMono(Void.class)
+                .toBodilessEntity()
                 .block();
+
+        return response == null ? null : response.getHeaders().getETag();
+    }
+
+    // keeps components and properties that were added remotely, the properties of the presentation take precedence
+    private Calendar rebaseEvent(Calendar remoteCalendar, VEvent event) {
+        Optional<VEvent> remoteEvent = getEvent(remoteCalendar);
+
+        if (remoteEvent.isEmpty()) {
+            Calendar calendar = createCalendar();
+            calendar.add(event);
+
+            return calendar;
+        }
+
+        remoteEvent.get().removeAll(MANAGED_PROPERTIES);
+        remoteEvent.get().addAll(event.getProperties());
+
+        return remoteCalendar;
+    }
+
+    private void deleteEventResource(String eventId, String etag) {
+        try {
+            deleteEventResource(eventId, etag == null ? headers -> {} : requireETag(etag));
+
+            return;
+        } catch (WebClientResponseException exception) {
+            int status = exception.getStatusCode().value();
+
+            if (status == HttpStatus.NOT_FOUND.value()) {
+                return;
+            }
+
+            if (status != HttpStatus.PRECONDITION_FAILED.value()) {
+                throw exception;
+            }
+        }
+
+        // the presentation was deleted, so the event is deleted even if it was modified remotely
+        RemoteEvent remoteEvent = getEventResource(eventId);
+
+        if (remoteEvent != null) {
+            deleteEventResource(eventId, requireETag(remoteEvent.etag()));
+        }
+    }
+
+    private void deleteEventResource(String eventId, Consumer<HttpHeaders> conditions) {
+        webClient.method(HttpMethod.DELETE)
+                .uri(getEventUri(eventId))
+                .headers(conditions)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    private RemoteEvent getEventResource(String eventId) {
+        try {
+            ResponseEntity<String> response = webClient.method(HttpMethod.GET)
+                    .uri(getEventUri(eventId))
+                    .retrieve()
+                    .toEntity(String.class)
+                    .block();
+
+            if (response == null || response.getBody() == null) {
+                return null;
+            }
+
+            return new RemoteEvent(parseCalendar(response.getBody()), response.getHeaders().getETag());
+        } catch (WebClientResponseException exception) {
+            if (exception.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                return null;
+            }
+
+            throw exception;
+        }
+    }
+
+    private Consumer<HttpHeaders> requireAbsent() {
+        return headers -> headers.setIfNoneMatch("*");
+    }
+
+    // servers without ETags do not support conditional requests, the resource is overwritten in that case
+    private Consumer<HttpHeaders> requireETag(String etag) {
+        return headers -> {
+            if (etag != null) {
+                headers.setIfMatch(etag);
+            }
+        };
+    }
+
+    private Optional<VEvent> getEvent(Calendar calendar) {
+        return calendar.getComponents(Component.VEVENT).stream()
+                .map(component -> (VEvent) component)
+                .findFirst();
+    }
+
+    private boolean moveLegacyEvents() {
+        try {
+            String response = webClient.method(HttpMethod.GET)
+                    .uri(URI.create(legacyCalendarUrl))
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+
+            int movedEvents = 0;
+
+            if (response != null && !response.isBlank()) {
+                List<VEvent> events = parseCalendar(response).getComponents(Component.VEVENT).stream()
+                        .map(component -> (VEvent) component)
+                        .toList();
+
+                for (VEvent event : events) {
+                    Optional<String> eventId = event.getUid().map(Uid::getValue);
+
+                    if (eventId.isPresent()) {
+                        createLegacyEventResource(eventId.get(), event);
+                        movedEvents++;
+                    }
+                }
+            }
+
+            webClient.method(HttpMethod.DELETE)
+                    .uri(URI.create(legacyCalendarUrl))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block();
+
+            log.info("Moved {} events of the legacy calendar to separate calendar resources", movedEvents);
+        } catch (WebClientResponseException exception) {
+            if (exception.getStatusCode().value() != HttpStatus.NOT_FOUND.value()) {
+                log.warn("Failed to migrate legacy calendar", exception);
+
+                return false;
+            }
+        } catch (Exception exception) {
+            log.warn("Failed to migrate legacy calendar", exception);
+
+            return false;
+        }
+
+        legacyCalendarMigrated = true;
+
+        return true;
+    }
+
+    private void createLegacyEventResource(String eventId, VEvent event) {
+        Calendar calendar = createCalendar();
+        calendar.add(event);
+
+        try {
+            webClient.method(HttpMethod.PUT)
+                    .uri(getEventUri(eventId))
+                    .headers(headers -> headers.setIfNoneMatch("*"))
+                    .contentType(MediaType.parseMediaType("text/calendar"))
+                    .bodyValue(calendar.toString())
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block();
+        } catch (WebClientResponseException exception) {
+            // the event already exists as a separate resource, which is newer than the legacy calendar
+            if (exception.getStatusCode().value() != HttpStatus.PRECONDITION_FAILED.value()) {
+                throw exception;
+            }
+        }
+    }
+
+    private Calendar parseCalendar(String content) {
+        try {
+            return new CalendarBuilder().build(new StringReader(content));
+        } catch (IOException | ParserException exception) {
+            throw new CalendarException("Failed to parse calendar", exception);
+        }
+    }
+
+    private Calendar createCalendar() {
+        Calendar calendar = new Calendar();
+        calendar.add(new ProdId("-//Thesis Management//Thesis Presentations//EN"));
+        calendar.add(ImmutableVersion.VERSION_2_0);
+
+        return calendar;
+    }
+
+    private URI getEventUri(String eventId) {
+        return URI.create(calendarUrl + eventId + ".ics");
     }
 }
@@ -1,45 +1,79 @@
 package de.tum.cit.aet.thesis.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import de.tum.cit.aet.thesis.constants.ThesisPresentationState;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.ThesisState;
 import de.tum.cit.aet.thesis.dto.TaskDto;
-import de.tum.cit.aet.thesis.entity.Thesis;
-import de.tum.cit.aet.thesis.entity.ThesisPresentation;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
 import de.tum.cit.aet.thesis.repository.TopicRepository;
+import de.tum.cit.aet.thesis.repository.projection.DashboardThesisProjection;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 @Service
 public class DashboardService {
+    private static final Duration TASK_CACHE_TTL = Duration.ofSeconds(30);
+    private static final long TASK_CACHE_SIZE = 1000;
+
     private final ThesisRepository thesisRepository;
     private final ApplicationRepository applicationRepository;
     private final TopicRepository topicRepository;
     private final String scientificWritingGuide;
 
+    private final Cache<UUID, List<TaskDto>> taskCache = Caffeine.newBuilder()
+            .maximumSize(TASK_CACHE_SIZE)
+            .expireAfterWrite(TASK_CACHE_TTL)
+            .recordStats()
+            .build();
+
     public DashboardService(
             ThesisRepository thesisRepository,
             ApplicationRepository applicationRepository,
             TopicRepository topicRepository,
-            @Value("${thesis-management.scientific-writing-guide}") String scientificWritingGuide
+            @Value("${thesis-management.scientific-writing-guide}") String scientificWritingGuide,
+            MeterRegistry meterRegistry
     ) {
         this.thesisRepository = thesisRepository;
         this.applicationRepository = applicationRepository;
         this.topicRepository = topicRepository;
         this.scientificWritingGuide = scientificWritingGuide;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, taskCache, "dashboard_tasks");
     }
 
     public List<TaskDto> getTasks(User user) {
+        return taskCache.get(user.getId(), key -> computeTasks(user));
+    }
+
+    // a thesis, presentation, application or topic change can create or resolve tasks for many users,
+    // these writes are rare compared to dashboard loads so all entries are dropped right away and again
+    // after commit, so tasks computed from the old state while the transaction is running do not survive it
+    public void invalidateTasks() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    taskCache.invalidateAll();
+                }
+            });
+        }
+
+        taskCache.invalidateAll();
+    }
+
+    private List<TaskDto> computeTasks(User user) {
         List<TaskDto> tasks = new ArrayList<>();
 
         if (user.hasAnyGroup("student") && !scientificWritingGuide.isBlank()) {
@@ -50,33 +84,42 @@ public class DashboardService {
             ));
         }
 
-        // general student tasks
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.STUDENT), null)) {
-            if (thesis.getAbstractField().isBlank() || thesis.getInfo().isBlank()) {
-                tasks.add(new TaskDto(
-                        "Add the abstract and additional information to thesis \"" + thesis.getTitle() + "\"",
-                        getThesisLink(thesis),
-                        50
-                ));
-            }
+        // the query returns one row per role, so the roles are merged per thesis first
+        Map<UUID, DashboardThesisProjection> theses = new LinkedHashMap<>();
+        Map<UUID, Set<ThesisRoleName>> thesisRoles = new HashMap<>();
+
+        for (DashboardThesisProjection thesis : thesisRepository.findActiveDashboardTheses(user.getId())) {
+            theses.putIfAbsent(thesis.getThesisId(), thesis);
+            thesisRoles.computeIfAbsent(thesis.getThesisId(), key -> EnumSet.noneOf(ThesisRoleName.class)).add(thesis.getRole());
         }
 
-        // general advisor, supervisor tasks
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.ADVISOR), null)) {
-            if (thesis.getState().equals(ThesisState.PROPOSAL)) {
-                continue;
-            }
+        for (DashboardThesisProjection thesis : theses.values()) {
+            Set<ThesisRoleName> roles = thesisRoles.get(thesis.getThesisId());
+            boolean isStudent = roles.contains(ThesisRoleName.STUDENT);
+            boolean isAdvisor = roles.contains(ThesisRoleName.ADVISOR);
+            boolean isSupervisor = roles.contains(ThesisRoleName.SUPERVISOR);
+            ThesisState state = thesis.getState();
 
-            if (thesis.getStartDate() == null || thesis.getEndDate() == null) {
+            // general student tasks
+            if (isStudent && thesis.getMissingInformation()) {
                 tasks.add(new TaskDto(
-                        "Add start and end date to thesis \"" + thesis.getTitle() + "\"",
+                        "Add the abstract and additional information to thesis \"" + thesis.getTitle() + "\"",
                         getThesisLink(thesis),
                         50
                 ));
             }
 
-            for (ThesisPresentation presentation : thesis.getPresentations()) {
-                if (presentation.getState() == ThesisPresentationState.DRAFTED) {
+            // general advisor, supervisor tasks
+            if (isAdvisor && state != ThesisState.PROPOSAL) {
+                if (thesis.getStartDate() == null || thesis.getEndDate() == null) {
+                    tasks.add(new TaskDto(
+                            "Add start and end date to thesis \"" + thesis.getTitle() + "\"",
+                            getThesisLink(thesis),
+                            50
+                    ));
+                }
+
+                for (long i = 0; i < thesis.getDraftedPresentationCount(); i++) {
                     tasks.add(new TaskDto(
                             "There is a presentation draft for thesis \"" + thesis.getTitle() + "\". Please review and confirm it.",
                             getThesisLink(thesis),
@@ -84,84 +127,74 @@ public class DashboardService {
                     ));
                 }
             }
-        }
 
-        // proposal task
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.STUDENT), Set.of(ThesisState.PROPOSAL))) {
-            if (!thesis.getProposals().isEmpty()) {
-                continue;
+            // proposal task
+            if (isStudent && state == ThesisState.PROPOSAL && thesis.getProposalCount() == 0) {
+                tasks.add(new TaskDto(
+                        "Add a proposal to thesis \"" + thesis.getTitle() + "\"",
+                        getThesisLink(thesis),
+                        100
+                ));
             }
 
-            tasks.add(new TaskDto(
-                    "Add a proposal to thesis \"" + thesis.getTitle() + "\"",
-                    getThesisLink(thesis),
-                    100
-            ));
-        }
-
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.ADVISOR), Set.of(ThesisState.PROPOSAL))) {
-            if (thesis.getProposals().isEmpty()) {
-                continue;
+            if (isAdvisor && state == ThesisState.PROPOSAL && thesis.getProposalCount() > 0) {
+                tasks.add(new TaskDto(
+                        "A proposal was submitted to thesis \"" + thesis.getTitle() + "\". Please review and accept it or send feedback to the student.",
+                        getThesisLink(thesis),
+                        100
+                ));
             }
 
-            tasks.add(new TaskDto(
-                    "A proposal was submitted to thesis \"" + thesis.getTitle() + "\". Please review and accept it or send feedback to the student.",
-                    getThesisLink(thesis),
-                    100
-            ));
-        }
-
-        // thesis submission task
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.STUDENT), Set.of(ThesisState.WRITING))) {
-            tasks.add(new TaskDto(
-                    "Submit your final thesis and presentation. You can check your submission deadline on the thesis page.",
-                    getThesisLink(thesis),
-                    80
-            ));
-        }
-
-        // presentation tasks
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.STUDENT, ThesisRoleName.ADVISOR), Set.of(ThesisState.WRITING, ThesisState.SUBMITTED))) {
-            if (!thesis.getPresentations().isEmpty() || thesis.getEndDate() == null) {
-                continue;
+            // thesis submission task
+            if (isStudent && state == ThesisState.WRITING) {
+                tasks.add(new TaskDto(
+                        "Submit your final thesis and presentation. You can check your submission deadline on the thesis page.",
+                        getThesisLink(thesis),
+                        80
+                ));
             }
 
-            if (thesis.getEndDate().minus(30, ChronoUnit.DAYS).isAfter(Instant.now())) {
-                continue;
+            // presentation tasks
+            if (
+                    (isStudent || isAdvisor) &&
+                    (state == ThesisState.WRITING || state == ThesisState.SUBMITTED) &&
+                    thesis.getPresentationCount() == 0 &&
+                    thesis.getEndDate() != null &&
+                    !thesis.getEndDate().minus(30, ChronoUnit.DAYS).isAfter(Instant.now())
+            ) {
+                tasks.add(new TaskDto(
+                        "Schedule a presentation date for thesis \"" + thesis.getTitle() + "\" with the advisor.",
+                        getThesisLink(thesis),
+                        40
+                ));
             }
 
-            tasks.add(new TaskDto(
-                    "Schedule a presentation date for thesis \"" + thesis.getTitle() + "\" with the advisor.",
-                    getThesisLink(thesis),
-                    40
-            ));
-        }
-
-        // thesis assessment task
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.ADVISOR), Set.of(ThesisState.SUBMITTED))) {
-            tasks.add(new TaskDto(
-                    "Thesis \"" + thesis.getTitle() + "\" was submitted. Please review the thesis and add an assessment.",
-                    getThesisLink(thesis),
-                    100
-            ));
-        }
+            // thesis assessment task
+            if (isAdvisor && state == ThesisState.SUBMITTED) {
+                tasks.add(new TaskDto(
+                        "Thesis \"" + thesis.getTitle() + "\" was submitted. Please review the thesis and add an assessment.",
+                        getThesisLink(thesis),
+                        100
+                ));
+            }
 
-        // grade thesis task
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.SUPERVISOR), Set.of(ThesisState.ASSESSED))) {
-            tasks.add(new TaskDto(
-                    "Review assessment of thesis \"" + thesis.getTitle() + "\" and add a final grade.",
-                    getThesisLink(thesis),
-                    100
-            ));
-        }
+            // grade thesis task
+            if (isSupervisor && state == ThesisState.ASSESSED) {
+                tasks.add(new TaskDto(
+                        "Review assessment of thesis \"" + thesis.getTitle() + "\" and add a final grade.",
+                        getThesisLink(thesis),
+                        100
+                ));
+            }
 
-        // close thesis task
-        for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), Set.of(ThesisRoleName.SUPERVISOR), Set.of(ThesisState.GRADED))) {
-            tasks.add(new TaskDto(
-                    "Thesis \"" + thesis.getTitle() + "\" is graded but not completed yet.",
-                    getThesisLink(thesis),
-                    20
-            ));
+            // close thesis task
+            if (isSupervisor && state == ThesisState.GRADED) {
+                tasks.add(new TaskDto(
+                        "Thesis \"" + thesis.getTitle() + "\" is graded but not completed yet.",
+                        getThesisLink(thesis),
+                        20
+                ));
+            }
         }
 
         if (user.hasAnyGroup("admin", "supervisor", "advisor")) {
@@ -190,10 +223,10 @@ public class DashboardService {
 
         tasks.sort(Comparator.comparingInt(a -> a.priority().intValue()));
 
-        return tasks.reversed();
+        return List.copyOf(tasks.reversed());
     }
 
-    private String getThesisLink(Thesis thesis) {
-        return "/theses/" + thesis.getId();
+    private String getThesisLink(DashboardThesisProjection thesis) {
+        return "/theses/" + thesis.getThesisId();
     }
 }
@@ -0,0 +1,57 @@
+package de.tum.cit.aet.thesis.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import de.tum.cit.aet.thesis.entity.Topic;
+import de.tum.cit.aet.thesis.entity.User;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Service
+public class EntityCacheService {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // hibernate only updates the cached collection of the side that owns the relation, so the inverse
+    // collections have to be dropped by hand whenever their elements are written through a repository
+    public void evictTopic(UUID topicId) {
+        evict(cache -> {
+            cache.evictEntityData(Topic.class, topicId);
+            cache.evictCollectionData(Topic.class.getName() + ".roles", topicId);
+        });
+    }
+
+    public void evictUser(UUID userId) {
+        evict(cache -> {
+            cache.evictCollectionData(User.class.getName() + ".groups", userId);
+            cache.evictCollectionData(User.class.getName() + ".notificationSettings", userId);
+        });
+    }
+
+    // the entries are dropped right away and again after commit, so collections loaded from the old state
+    // while the transaction is still running do not survive it
+    private void evict(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.accept(cache);
+                }
+            });
+        }
+
+        eviction.accept(cache);
+    }
+}
@@ -0,0 +1,340 @@
+package de.tum.cit.aet.thesis.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import jakarta.activation.FileTypeMap;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.util.ByteArrayDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
+import de.tum.cit.aet.thesis.repository.MailOutboxRepository;
+import de.tum.cit.aet.thesis.utility.MailConfig;
+import de.tum.cit.aet.thesis.utility.MailLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class MailOutboxService {
+    private static final Logger log = LoggerFactory.getLogger(MailOutboxService.class);
+
+    private static final int WORKER_THREADS = 4;
+    private static final int BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+
+    private final JavaMailSender javaMailSender;
+    private final UploadService uploadService;
+    private final MailConfig config;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate deferredTransactionTemplate;
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(WORKER_THREADS);
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
+
+    private final AtomicLong pendingEntries = new AtomicLong();
+    private final AtomicLong failedEntries = new AtomicLong();
+    private final Counter sentDeliveries;
+    private final Counter retriedDeliveries;
+    private final Counter failedDeliveries;
+    private final Timer sendDuration;
+
+    @Autowired
+    public MailOutboxService(
+            JavaMailSender javaMailSender,
+            UploadService uploadService,
+            MailConfig config,
+            MailOutboxRepository mailOutboxRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.javaMailSender = javaMailSender;
+        this.uploadService = uploadService;
+        this.config = config;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deferredTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.deferredTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("mail_outbox_entries", pendingEntries, AtomicLong::get)
+                .tag("state", "pending")
+                .register(meterRegistry);
+        Gauge.builder("mail_outbox_entries", failedEntries, AtomicLong::get)
+                .tag("state", "failed")
+                .register(meterRegistry);
+
+        this.sentDeliveries = meterRegistry.counter("mail_outbox_deliveries", "result", "sent");
+        this.retriedDeliveries = meterRegistry.counter("mail_outbox_deliveries", "result", "retried");
+        this.failedDeliveries = meterRegistry.counter("mail_outbox_deliveries", "result", "failed");
+        this.sendDuration = meterRegistry.timer("mail_outbox_send_duration");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public MailOutboxEntry enqueue(
+            String subject,
+            String body,
+            List<String> toAddresses,
+            List<String> ccAddresses,
+            List<String> bccAddresses,
+            List<MailOutboxEntry.Attachment> attachments
+    ) {
+        MailOutboxEntry entry = new MailOutboxEntry();
+
+        entry.setState(MailOutboxState.PENDING);
+        entry.setSubject(subject);
+        entry.setBody(body);
+        entry.setToAddresses(toAddresses);
+        entry.setCcAddresses(ccAddresses);
+        entry.setBccAddresses(bccAddresses);
+        entry.setAttachments(attachments);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(Instant.now());
+
+        entry = mailOutboxRepository.save(entry);
+
+        // the entry is only visible to the workers after the surrounding transaction was committed
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    triggerProcessing();
+                }
+            });
+        } else {
+            triggerProcessing();
+        }
+
+        return entry;
+    }
+
+    // bulk operations hand their notifications over here, so the mails are rendered and enqueued in a separate
+    // transaction after the surrounding one committed instead of extending it
+    public void enqueueAfterCommit(Runnable notifications) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifications.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    deferredTransactionTemplate.executeWithoutResult(status -> notifications.run());
+                } catch (RuntimeException exception) {
+                    log.warn("Failed to enqueue deferred notifications", exception);
+                }
+            }
+        });
+    }
+
+    public void triggerProcessing() {
+        if (!dispatchScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        dispatcher.execute(() -> {
+            dispatchScheduled.set(false);
+
+            try {
+                processOutbox();
+            } catch (Exception exception) {
+                log.warn("Failed to process mail outbox", exception);
+            }
+        });
+    }
+
+    public int processOutbox() {
+        int processedEntries = 0;
+
+        while (true) {
+            List<MailOutboxEntry> entries = claimDueEntries();
+
+            // messages of one fan-out share their attachments, so every stored file is only read once per batch
+            Map<String, DataSource> storedAttachments = new ConcurrentHashMap<>();
+
+            List<Callable<Void>> deliveries = entries.stream().map(entry -> (Callable<Void>) () -> {
+                deliver(entry, storedAttachments);
+
+                return null;
+            }).toList();
+
+            try {
+                workers.invokeAll(deliveries);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            processedEntries += entries.size();
+
+            if (entries.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        pendingEntries.set(mailOutboxRepository.countByState(MailOutboxState.PENDING));
+        failedEntries.set(mailOutboxRepository.countByState(MailOutboxState.FAILED));
+
+        return processedEntries;
+    }
+
+    public int deleteSentEntries(Instant sentBefore) {
+        return mailOutboxRepository.deleteSentEntries(sentBefore);
+    }
+
+    private List<MailOutboxEntry> claimDueEntries() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<MailOutboxEntry> entries = mailOutboxRepository.findDueEntries(now, PageRequest.of(0, BATCH_SIZE));
+
+            for (MailOutboxEntry entry : entries) {
+                entry.setState(MailOutboxState.SENDING);
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setNextAttemptAt(now.plus(CLAIM_TIMEOUT));
+            }
+
+            return mailOutboxRepository.saveAll(entries);
+        });
+    }
+
+    private void deliver(MailOutboxEntry entry, Map<String, DataSource> storedAttachments) {
+        try {
+            MimeMessage message = createMessage(entry, storedAttachments);
+
+            if (config.isEnabled()) {
+                sendDuration.record(() -> javaMailSender.send(message));
+            } else {
+                log.info("Sending Mail (postfix disabled)\n{}", MailLogger.getTextFromMimeMessage(message));
+            }
+
+            entry.setState(MailOutboxState.SENT);
+            entry.setSentAt(Instant.now());
+            entry.setLastError(null);
+
+            sentDeliveries.increment();
+        } catch (Exception exception) {
+            entry.setLastError(exception.getMessage());
+
+            if (entry.getAttempts() >= MAX_ATTEMPTS) {
+                log.error("Giving up on email {} after {} attempts", entry.getId(), entry.getAttempts(), exception);
+
+                entry.setState(MailOutboxState.FAILED);
+
+                failedDeliveries.increment();
+            } else {
+                log.warn("Failed to send email {}, retrying later", entry.getId(), exception);
+
+                entry.setState(MailOutboxState.PENDING);
+                entry.setNextAttemptAt(Instant.now().plus(getBackoff(entry.getAttempts())));
+
+                retriedDeliveries.increment();
+            }
+        }
+
+        mailOutboxRepository.save(entry);
+    }
+
+    private Duration getBackoff(int attempts) {
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 16));
+
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private DataSource loadStoredAttachment(String storedFile) {
+        try {
+            return new ByteArrayDataSource(
+                    uploadService.load(storedFile).getContentAsByteArray(),
+                    FileTypeMap.getDefaultFileTypeMap().getContentType(storedFile)
+            );
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private MimeMessage createMessage(MailOutboxEntry entry, Map<String, DataSource> storedAttachments) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+
+        message.setFrom("ThesisManagement <" + config.getSender().getAddress() + ">");
+        message.setSender(config.getSender());
+
+        for (String address : entry.getToAddresses()) {
+            message.addRecipient(Message.RecipientType.TO, new InternetAddress(address));
+        }
+
+        for (String address : entry.getCcAddresses()) {
+            message.addRecipient(Message.RecipientType.CC, new InternetAddress(address));
+        }
+
+        for (String address : entry.getBccAddresses()) {
+            message.addRecipient(Message.RecipientType.BCC, new InternetAddress(address));
+        }
+
+        message.setSubject(entry.getSubject());
+
+        Multipart messageContent = new MimeMultipart();
+
+        BodyPart messageBody = new MimeBodyPart();
+        messageBody.setContent(entry.getBody(), "text/html; charset=utf-8");
+        messageContent.addBodyPart(messageBody);
+
+        for (MailOutboxEntry.Attachment data : entry.getAttachments()) {
+            MimeBodyPart attachment = new MimeBodyPart();
+
+            if (data.storedFile() != null) {
+                attachment.setDataHandler(new DataHandler(storedAttachments.computeIfAbsent(data.storedFile(), this::loadStoredAttachment)));
+            } else {
+                attachment.setDataHandler(new DataHandler(new ByteArrayDataSource(data.content(), data.contentType())));
+            }
+
+            attachment.setFileName(data.filename());
+
+            messageContent.addBodyPart(attachment);
+        }
+
+        message.setContent(messageContent);
+
+        return message;
+    }
+}
@@ -3,7 +3,6 @@ package de.tum.cit.aet.thesis.service;
 import jakarta.mail.util.ByteArrayDataSource;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import de.tum.cit.aet.thesis.constants.ThesisCommentType;
 import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
@@ -16,21 +15,19 @@ import de.tum.cit.aet.thesis.utility.MailConfig;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 
 @Service
 public class MailingService {
-    private final JavaMailSender javaMailSender;
-    private final UploadService uploadService;
+    private final MailOutboxService mailOutboxService;
     private final MailConfig config;
 
     @Autowired
     public MailingService(
-            JavaMailSender javaMailSender,
-            UploadService uploadService,
+            MailOutboxService mailOutboxService,
             MailConfig config
     ) {
-        this.javaMailSender = javaMailSender;
-        this.uploadService = uploadService;
+        this.mailOutboxService = mailOutboxService;
         this.config = config;
     }
 
@@ -47,7 +44,7 @@ public class MailingService {
                 .addStoredAttachment(application.getUser().getExaminationFilename(), getUserFilename(application.getUser(), "Examination Report", application.getUser().getExaminationFilename()))
                 .addStoredAttachment(application.getUser().getDegreeFilename(), getUserFilename(application.getUser(), "Degree Report", application.getUser().getDegreeFilename()))
                 .fillApplicationPlaceholders(application)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
 
         MailBuilder studentMailBuilder = new MailBuilder(config, "Thesis Application Confirmation", "application-created-student");
         studentMailBuilder
@@ -56,7 +53,7 @@ public class MailingService {
                 .addStoredAttachment(application.getUser().getExaminationFilename(), getUserFilename(application.getUser(), "Examination Report", application.getUser().getExaminationFilename()))
                 .addStoredAttachment(application.getUser().getDegreeFilename(), getUserFilename(application.getUser(), "Degree Report", application.getUser().getDegreeFilename()))
                 .fillApplicationPlaceholders(application)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendApplicationAcceptanceEmail(Application application, Thesis thesis) {
@@ -73,7 +70,7 @@ public class MailingService {
                 .fillUserPlaceholders(advisor, "advisor")
                 .fillApplicationPlaceholders(application)
                 .fillThesisPlaceholders(thesis)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendApplicationRejectionEmail(Application application, ApplicationRejectReason reason) {
@@ -82,7 +79,15 @@ public class MailingService {
                 .addPrimaryRecipient(application.getUser())
                 .addDefaultBccRecipients()
                 .fillApplicationPlaceholders(application)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
+    }
+
+    public void sendApplicationRejectionEmails(List<Application> applications, ApplicationRejectReason reason) {
+        mailOutboxService.enqueueAfterCommit(() -> {
+            for (Application application : applications) {
+                sendApplicationRejectionEmail(application, reason);
+            }
+        });
     }
 
     public void sendApplicationReminderEmail(User user, long unreviewedApplications) {
@@ -92,7 +97,7 @@ public class MailingService {
                 .addNotificationName("unreviewed-application-reminder")
                 .fillPlaceholder("unreviewedApplications", String.valueOf(unreviewedApplications))
                 .fillPlaceholder("reviewApplicationsLink", config.getClientHost() + "/applications")
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendThesisCreatedEmail(User creatingUser, Thesis thesis) {
@@ -103,7 +108,7 @@ public class MailingService {
                 .addNotificationName("thesis-" + thesis.getId())
                 .fillThesisPlaceholders(thesis)
                 .fillUserPlaceholders(creatingUser, "creatingUser")
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendThesisClosedEmail(User deletingUser, Thesis thesis) {
@@ -114,7 +119,7 @@ public class MailingService {
                 .addNotificationName("thesis-" + thesis.getId())
                 .fillThesisPlaceholders(thesis)
                 .fillUserPlaceholders(deletingUser, "deletingUser")
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendProposalUploadedEmail(ThesisProposal proposal) {
@@ -125,7 +130,7 @@ public class MailingService {
                 .addNotificationName("thesis-" + proposal.getThesis().getId())
                 .fillThesisProposalPlaceholders(proposal)
                 .addStoredAttachment(proposal.getProposalFilename(), getThesisFilename(proposal.getThesis(), "Proposal", proposal.getProposalFilename()))
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendProposalAcceptedEmail(ThesisProposal proposal) {
@@ -136,7 +141,7 @@ public class MailingService {
                 .addNotificationName("thesis-" + proposal.getThesis().getId())
                 .fillThesisPlaceholders(proposal.getThesis())
                 .fillThesisProposalPlaceholders(proposal)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendProposalChangeRequestEmail(User reviewingUser, Thesis thesis) {
@@ -158,7 +163,7 @@ public class MailingService {
                                 .map(ThesisFeedback::getFeedback)
                                 .toList()
                 )
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendNewCommentEmail(ThesisComment comment) {
@@ -180,7 +185,7 @@ public class MailingService {
                 .addNotificationName("thesis-" + comment.getThesis().getId())
                 .fillThesisCommentPlaceholders(comment)
                 .addStoredAttachment(comment.getFilename(), getUserFilename(comment.getCreatedBy(), "Comment", comment.getUploadName()))
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendScheduledPresentationEmail(String action, ThesisPresentation presentation, String icsFile) {
@@ -198,7 +203,7 @@ public class MailingService {
                 .sendToThesisStudents(presentation.getThesis())
                 .addNotificationName("thesis-" + presentation.getThesis().getId())
                 .fillThesisPresentationPlaceholders(presentation)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
 
         if (presentation.getVisibility() == ThesisPresentationVisibility.PUBLIC) {
             MailBuilder publicBuilder = new MailBuilder(
@@ -221,7 +226,7 @@ public class MailingService {
                 );
             }
 
-            publicBuilder.send(javaMailSender, uploadService);
+            publicBuilder.send(mailOutboxService);
         }
     }
 
@@ -236,7 +241,7 @@ public class MailingService {
                 .addNotificationName("thesis-" + presentation.getThesis().getId())
                 .fillThesisPresentationPlaceholders(presentation)
                 .fillUserPlaceholders(deletingUser, "deletingUser")
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
 
         if (presentation.getVisibility() == ThesisPresentationVisibility.PUBLIC) {
             MailBuilder publicBuilder = new MailBuilder(config, "Thesis Presentation Cancelled ", "thesis-presentation-invitation-cancelled");
@@ -248,7 +253,7 @@ public class MailingService {
                 publicBuilder.addBccRecipient(invite.getEmail());
             }
 
-            publicBuilder.send(javaMailSender, uploadService);
+            publicBuilder.send(mailOutboxService);
         }
     }
 
@@ -260,7 +265,7 @@ public class MailingService {
                 .fillThesisPlaceholders(thesis)
                 //.addStoredAttachment(thesis.getFinalThesisFilename(), getThesisFilename(thesis, "File", thesis.getFinalThesisFilename()))
                 //.addStoredAttachment(thesis.getFinalPresentationFilename(), getThesisFilename(thesis, "Presentation", thesis.getFinalPresentationFilename()))
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendAssessmentAddedEmail(ThesisAssessment assessment) {
@@ -270,7 +275,7 @@ public class MailingService {
                 .sendToThesisSupervisors(assessment.getThesis())
                 .addNotificationName("thesis-" + assessment.getThesis().getId())
                 .fillThesisAssessmentPlaceholders(assessment)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     public void sendFinalGradeEmail(Thesis thesis) {
@@ -279,7 +284,7 @@ public class MailingService {
                 .sendToThesisStudents(thesis)
                 .addNotificationName("thesis-" + thesis.getId())
                 .fillThesisPlaceholders(thesis)
-                .send(javaMailSender, uploadService);
+                .send(mailOutboxService);
     }
 
     private String getUserFilename(User user, String name, String originalFilename) {
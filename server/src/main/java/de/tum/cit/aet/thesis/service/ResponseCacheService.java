@@ -0,0 +1,118 @@
+package de.tum.cit.aet.thesis.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+public class ResponseCacheService {
+    // the lifetime bounds how long time based results like upcoming presentations can lag behind
+    private static final Duration RESPONSE_CACHE_TTL = Duration.ofMinutes(5);
+    private static final long RESPONSE_CACHE_SIZE = 1000;
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    public enum Section {
+        TOPICS,
+        PUBLISHED_THESES,
+        PUBLISHED_PRESENTATIONS
+    }
+
+    private record CacheKey(Section section, long generation, List<Object> parameters) {}
+
+    private record CachedResponse(Object body, String eTag) {}
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Section, AtomicLong> generations = new EnumMap<>(Section.class);
+
+    private final Cache<CacheKey, CachedResponse> responses = Caffeine.newBuilder()
+            .maximumSize(RESPONSE_CACHE_SIZE)
+            .expireAfterWrite(RESPONSE_CACHE_TTL)
+            .recordStats()
+            .build();
+
+    public ResponseCacheService(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+
+        for (Section section : Section.values()) {
+            generations.put(section, new AtomicLong());
+        }
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "public_responses");
+    }
+
+    public <T> ResponseEntity<T> getResponse(Section section, Supplier<T> loader, Object... parameters) {
+        return getResponse(section, ResponseEntity.ok(), loader, parameters);
+    }
+
+    // Spring MVC answers If-None-Match with 304 based on the ETag of the returned entity
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> getResponse(Section section, ResponseEntity.BodyBuilder builder, Supplier<T> loader, Object... parameters) {
+        CacheKey key = new CacheKey(section, generations.get(section).get(), normalizeParameters(parameters));
+        CachedResponse response = responses.get(key, ignored -> createResponse(loader.get()));
+
+        return builder
+                .cacheControl(CACHE_CONTROL)
+                .eTag(response.eTag())
+                .body((T) response.body());
+    }
+
+    // the sections are dropped right away and again after commit, so responses loaded from the old state
+    // while the transaction is still running do not survive it
+    public void invalidate(Section... sections) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateSections(sections);
+                }
+            });
+        }
+
+        invalidateSections(sections);
+    }
+
+    private void invalidateSections(Section... sections) {
+        for (Section section : sections) {
+            generations.get(section).incrementAndGet();
+            responses.asMap().keySet().removeIf(key -> key.section() == section);
+        }
+    }
+
+    private CachedResponse createResponse(Object body) {
+        try {
+            return new CachedResponse(body, DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize response", exception);
+        }
+    }
+
+    // array parameters are filters, so their order and duplicates do not change the response
+    private List<Object> normalizeParameters(Object... parameters) {
+        return Arrays.stream(parameters).map(parameter -> {
+            if (parameter instanceof Object[] values) {
+                return (Object) Arrays.stream(values).map(String::valueOf).sorted().distinct().toList();
+            }
+
+            return Objects.toString(parameter, "");
+        }).toList();
+    }
+}
@@ -3,6 +3,7 @@ package de.tum.cit.aet.thesis.service;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,6 +14,7 @@ import de.tum.cit.aet.thesis.entity.ThesisComment;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.ThesisCommentRepository;
+import de.tum.cit.aet.thesis.utility.KeysetCursor;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -37,6 +39,16 @@ public class ThesisCommentService {
         );
     }
 
+    public Slice<ThesisComment> scrollComments(Thesis thesis, ThesisCommentType commentType, KeysetCursor after, Integer limit) {
+        return thesisCommentRepository.scrollComments(
+                thesis.getId(),
+                commentType,
+                after == null ? null : after.sortValue(),
+                after == null ? null : after.id(),
+                PageRequest.of(0, limit)
+        );
+    }
+
     @Transactional
     public ThesisComment postComment(User postingUser, Thesis thesis, ThesisCommentType commentType, String message, MultipartFile file) {
         ThesisComment comment = new ThesisComment();
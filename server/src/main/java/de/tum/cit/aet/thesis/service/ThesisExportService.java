@@ -0,0 +1,174 @@
+package de.tum.cit.aet.thesis.service;
+
+import jakarta.persistence.EntityManager;
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.entity.ThesisComment;
+import de.tum.cit.aet.thesis.entity.ThesisFile;
+import de.tum.cit.aet.thesis.entity.ThesisProposal;
+import de.tum.cit.aet.thesis.exception.UploadException;
+import de.tum.cit.aet.thesis.repository.ThesisCommentRepository;
+import de.tum.cit.aet.thesis.repository.ThesisRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Service
+public class ThesisExportService {
+    private static final Logger log = LoggerFactory.getLogger(ThesisExportService.class);
+
+    // deflating these formats costs cpu without making them noticeably smaller
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("pdf", "png", "jpg", "jpeg", "gif", "webp", "zip");
+
+    private final ThesisRepository thesisRepository;
+    private final ThesisCommentRepository thesisCommentRepository;
+    private final ThesisService thesisService;
+    private final UploadService uploadService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration requestTimeout;
+
+    @Autowired
+    public ThesisExportService(
+            ThesisRepository thesisRepository,
+            ThesisCommentRepository thesisCommentRepository,
+            ThesisService thesisService,
+            UploadService uploadService,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${thesis-management.export.request-timeout}") Duration requestTimeout
+    ) {
+        this.thesisRepository = thesisRepository;
+        this.thesisCommentRepository = thesisCommentRepository;
+        this.thesisService = thesisService;
+        this.uploadService = uploadService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.requestTimeout = requestTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void exportThesis(Thesis thesis, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+
+        writeThesis(zip, thesis, "");
+
+        zip.finish();
+    }
+
+    // every thesis is loaded in its own transaction and detached afterward, so the archive
+    // can span thousands of theses without the persistence context growing with it
+    public void exportTheses(Set<ThesisState> states, Instant endsAfter, Instant endsBefore, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+
+        for (UUID thesisId : thesisRepository.findExportThesisIds(states, endsAfter, endsBefore)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> thesisRepository.findById(thesisId).ifPresent(thesis -> {
+                    try {
+                        writeThesis(zip, thesis, getFolderName(thesis));
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                }));
+            } catch (UncheckedIOException exception) {
+                throw exception.getCause();
+            }
+
+            entityManager.clear();
+        }
+
+        zip.finish();
+    }
+
+    private void writeThesis(ZipOutputStream zip, Thesis thesis, String folder) throws IOException {
+        for (ThesisProposal proposal : thesis.getProposals()) {
+            writeEntry(zip, folder + "proposals/proposal_" + proposal.getId() + ".pdf", proposal.getProposalFilename());
+        }
+
+        for (ThesisFile file : thesis.getFiles()) {
+            writeEntry(zip, folder + "files/" + file.getId() + "_" + sanitize(file.getUploadName()), file.getFilename());
+        }
+
+        for (ThesisComment comment : thesisCommentRepository.findCommentsWithFile(thesis.getId())) {
+            String type = comment.getType().name().toLowerCase(Locale.ROOT);
+            String uploadName = comment.getUploadName() != null ? comment.getUploadName() : comment.getFilename();
+
+            writeEntry(zip, folder + "comments/" + type + "/" + comment.getId() + "_" + sanitize(uploadName), comment.getFilename());
+        }
+
+        if (!thesis.getAssessments().isEmpty()) {
+            writeEntry(zip, folder + "assessment.pdf", thesisService.getAssessmentFile(thesis));
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, String name, String storedFilename) throws IOException {
+        Resource resource;
+
+        try {
+            resource = uploadService.load(storedFilename);
+        } catch (UploadException exception) {
+            log.warn("Skipping missing file {} in thesis export", storedFilename);
+            return;
+        }
+
+        writeEntry(zip, name, resource);
+    }
+
+    private void writeEntry(ZipOutputStream zip, String name, Resource resource) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+
+        // STORED entries need their size and checksum before the data, so the file is read twice instead of buffered
+        if (COMPRESSED_EXTENSIONS.contains(FilenameUtils.getExtension(name).toLowerCase(Locale.ROOT))) {
+            try (CheckedInputStream inputStream = new CheckedInputStream(resource.getInputStream(), new CRC32())) {
+                long size = inputStream.transferTo(OutputStream.nullOutputStream());
+
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(size);
+                entry.setCompressedSize(size);
+                entry.setCrc(inputStream.getChecksum().getValue());
+            }
+        }
+
+        zip.putNextEntry(entry);
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            inputStream.transferTo(zip);
+        }
+
+        zip.closeEntry();
+    }
+
+    private String getFolderName(Thesis thesis) {
+        String title = sanitize(thesis.getTitle());
+
+        return (title.length() > 80 ? title.substring(0, 80).trim() : title) + "_" + thesis.getId() + "/";
+    }
+
+    private String sanitize(String name) {
+        return name.replaceAll("[^\\p{L}\\p{N} ._-]", "_").trim();
+    }
+}
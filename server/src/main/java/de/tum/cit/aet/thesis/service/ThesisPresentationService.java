@@ -1,11 +1,14 @@
 package de.tum.cit.aet.thesis.service;
 
+import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.property.ProdId;
 import net.fortuna.ical4j.model.property.immutable.ImmutableCalScale;
 import net.fortuna.ical4j.model.property.immutable.ImmutableMethod;
 import net.fortuna.ical4j.model.property.immutable.ImmutableVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
@@ -24,14 +27,21 @@ import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.ThesisPresentationInviteRepository;
 import de.tum.cit.aet.thesis.repository.ThesisPresentationRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
+import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.repository.projection.CalendarAttendeeProjection;
+import de.tum.cit.aet.thesis.repository.projection.CalendarPresentationProjection;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class ThesisPresentationService {
+    private static final Logger log = LoggerFactory.getLogger(ThesisPresentationService.class);
+
     private final CalendarService calendarService;
     private final ThesisRepository thesisRepository;
     private final MailingService mailingService;
@@ -41,6 +51,12 @@ public class ThesisPresentationService {
     private final InternetAddress applicationMail;
     private final UserRepository userRepository;
     private final ThesisPresentationInviteRepository thesisPresentationInviteRepository;
+    private final ThesisRoleRepository thesisRoleRepository;
+    private final ResponseCacheService responseCacheService;
+    private final DashboardService dashboardService;
+
+    private final Duration calendarFeedPast;
+    private final Duration calendarFeedFuture;
 
     @Autowired
     public ThesisPresentationService(
@@ -50,7 +66,12 @@ public class ThesisPresentationService {
             ThesisPresentationRepository thesisPresentationRepository,
             @Value("${thesis-management.client.host}") String clientHost,
             @Value("${thesis-management.mail.sender}") InternetAddress applicationMail,
-            UserRepository userRepository, ThesisPresentationInviteRepository thesisPresentationInviteRepository) {
+            UserRepository userRepository, ThesisPresentationInviteRepository thesisPresentationInviteRepository,
+            ThesisRoleRepository thesisRoleRepository,
+            ResponseCacheService responseCacheService,
+            DashboardService dashboardService,
+            @Value("${thesis-management.calendar.feed-past}") Duration calendarFeedPast,
+            @Value("${thesis-management.calendar.feed-future}") Duration calendarFeedFuture) {
         this.calendarService = calendarService;
         this.thesisRepository = thesisRepository;
         this.mailingService = mailingService;
@@ -60,6 +81,12 @@ public class ThesisPresentationService {
         this.applicationMail = applicationMail;
         this.userRepository = userRepository;
         this.thesisPresentationInviteRepository = thesisPresentationInviteRepository;
+        this.thesisRoleRepository = thesisRoleRepository;
+        this.responseCacheService = responseCacheService;
+        this.dashboardService = dashboardService;
+
+        this.calendarFeedPast = calendarFeedPast;
+        this.calendarFeedFuture = calendarFeedFuture;
     }
 
     public Page<ThesisPresentation> getPublicPresentations(Boolean includeDrafts, Integer page, Integer limit, String sortBy, String sortOrder) {
@@ -89,12 +116,37 @@ public class ThesisPresentationService {
 
         calendar.add(ImmutableMethod.PUBLISH);
 
-        List<ThesisPresentation> presentations = thesisPresentationRepository.findAllPresentations(
-                Set.of(ThesisPresentationVisibility.PUBLIC)
+        // the feed only covers a window around now and reads the event fields without loading the thesis graph
+        Instant now = Instant.now();
+        List<CalendarPresentationProjection> presentations = thesisPresentationRepository.findCalendarPresentations(
+                Set.of(ThesisPresentationVisibility.PUBLIC),
+                now.minus(calendarFeedPast),
+                now.plus(calendarFeedFuture)
         );
 
-        for (ThesisPresentation presentation : presentations) {
-            calendar.add(calendarService.createVEvent(presentation.getId().toString(), createPresentationCalendarEvent(presentation)));
+        if (presentations.isEmpty()) {
+            return calendar;
+        }
+
+        Map<UUID, List<InternetAddress>> thesisAttendees = groupCalendarAttendees(thesisRoleRepository.findCalendarAttendees(
+                presentations.stream().map(CalendarPresentationProjection::getThesisId).collect(Collectors.toSet())
+        ));
+        Map<UUID, List<InternetAddress>> invitedAttendees = groupCalendarAttendees(thesisPresentationInviteRepository.findCalendarAttendees(
+                presentations.stream().map(CalendarPresentationProjection::getPresentationId).toList()
+        ));
+
+        for (CalendarPresentationProjection presentation : presentations) {
+            calendar.add(calendarService.createVEvent(presentation.getPresentationId().toString(), createPresentationCalendarEvent(
+                    presentation.getPresentationId(),
+                    presentation.getTitle(),
+                    presentation.getAbstractText(),
+                    presentation.getLocation(),
+                    presentation.getStreamUrl(),
+                    presentation.getLanguage(),
+                    presentation.getScheduledAt(),
+                    thesisAttendees.getOrDefault(presentation.getThesisId(), List.of()),
+                    invitedAttendees.getOrDefault(presentation.getPresentationId(), List.of())
+            )));
         }
 
         return calendar;
@@ -141,6 +193,9 @@ public class ThesisPresentationService {
         presentations.sort(Comparator.comparing(ThesisPresentation::getScheduledAt));
         thesis.setPresentations(presentations);
 
+        responseCacheService.invalidate(ResponseCacheService.Section.PUBLISHED_PRESENTATIONS);
+        dashboardService.invalidateTasks();
+
         return thesisRepository.save(thesis);
     }
 
@@ -166,6 +221,9 @@ public class ThesisPresentationService {
 
         thesisPresentationRepository.save(presentation);
 
+        responseCacheService.invalidate(ResponseCacheService.Section.PUBLISHED_PRESENTATIONS);
+        dashboardService.invalidateTasks();
+
         if (presentation.getState() == ThesisPresentationState.SCHEDULED) {
             mailingService.sendScheduledPresentationEmail("UPDATED", presentation, getPresentationInvite(presentation).toString());
         }
@@ -206,28 +264,17 @@ public class ThesisPresentationService {
         }
 
         if (inviteChairMembers) {
-            for (User user : userRepository.getRoleMembers(Set.of("admin", "supervisor", "advisor"))) {
-                if (!user.isNotificationEnabled("presentation-invitations")) {
-                    continue;
-                }
-
-                addresses.add(user.getEmail());
-            }
+            addresses.addAll(getNotificationAddresses(Set.of("admin", "supervisor", "advisor")));
         }
 
         if (inviteThesisStudents) {
-            for (User user : userRepository.getRoleMembers(Set.of("student"))) {
-                if (!user.isNotificationEnabled("presentation-invitations")) {
-                    continue;
-                }
-
-                addresses.add(user.getEmail());
-            }
+            addresses.addAll(getNotificationAddresses(Set.of("student")));
         }
 
         addresses.addAll(additionalInvites);
 
         List<ThesisPresentationInvite> invites = new ArrayList<>();
+        Instant invitedAt = Instant.now();
 
         for (InternetAddress address : addresses) {
             ThesisPresentationInviteId entityId = new ThesisPresentationInviteId();
@@ -237,14 +284,19 @@ public class ThesisPresentationService {
             ThesisPresentationInvite entity = new ThesisPresentationInvite();
             entity.setPresentation(presentation);
             entity.setId(entityId);
-            entity.setInvitedAt(Instant.now());
+            entity.setInvitedAt(invitedAt);
 
-            invites.add(thesisPresentationInviteRepository.save(entity));
+            invites.add(entity);
         }
 
+        invites = thesisPresentationInviteRepository.saveAll(invites);
+
         presentation.setInvites(invites);
         presentation = thesisPresentationRepository.save(presentation);
 
+        responseCacheService.invalidate(ResponseCacheService.Section.PUBLISHED_PRESENTATIONS);
+        dashboardService.invalidateTasks();
+
         mailingService.sendScheduledPresentationEmail("CREATED", presentation, getPresentationInvite(presentation).toString());
 
         return thesis;
@@ -265,6 +317,9 @@ public class ThesisPresentationService {
 
         thesis = thesisRepository.save(thesis);
 
+        responseCacheService.invalidate(ResponseCacheService.Section.PUBLISHED_PRESENTATIONS);
+        dashboardService.invalidateTasks();
+
         calendarService.deleteEvent(presentation.getCalendarEvent());
 
         if (presentation.getState() == ThesisPresentationState.SCHEDULED) {
@@ -295,6 +350,20 @@ public class ThesisPresentationService {
         return presentation;
     }
 
+    private List<InternetAddress> getNotificationAddresses(Set<String> groups) {
+        List<InternetAddress> addresses = new ArrayList<>();
+
+        for (String email : userRepository.getNotificationEmails(groups, "presentation-invitations")) {
+            try {
+                addresses.add(new InternetAddress(email));
+            } catch (AddressException exception) {
+                log.warn("Skipping invalid email address {}", email);
+            }
+        }
+
+        return addresses;
+    }
+
     private Calendar createEmptyCalendar() {
         Calendar calendar = new Calendar();
 
@@ -305,23 +374,58 @@ public class ThesisPresentationService {
         return calendar;
     }
 
+    private Map<UUID, List<InternetAddress>> groupCalendarAttendees(List<CalendarAttendeeProjection> attendees) {
+        Map<UUID, List<InternetAddress>> result = new HashMap<>();
+
+        for (CalendarAttendeeProjection attendee : attendees) {
+            try {
+                result.computeIfAbsent(attendee.getId(), key -> new ArrayList<>()).add(new InternetAddress(attendee.getEmail()));
+            } catch (AddressException exception) {
+                log.warn("Skipping invalid calendar attendee {}", attendee.getEmail());
+            }
+        }
+
+        return result;
+    }
+
     private CalendarService.CalendarEvent createPresentationCalendarEvent(ThesisPresentation presentation) {
-        String location = presentation.getLocation();
-        String streamUrl = presentation.getStreamUrl();
+        return createPresentationCalendarEvent(
+                presentation.getId(),
+                presentation.getThesis().getTitle(),
+                presentation.getThesis().getAbstractField(),
+                presentation.getLocation(),
+                presentation.getStreamUrl(),
+                presentation.getLanguage(),
+                presentation.getScheduledAt(),
+                presentation.getThesis().getRoles().stream().map((role) -> role.getUser().getEmail()).toList(),
+                presentation.getInvites().stream().map(ThesisPresentationInvite::getEmail).toList()
+        );
+    }
 
+    private CalendarService.CalendarEvent createPresentationCalendarEvent(
+            UUID presentationId,
+            String thesisTitle,
+            String thesisAbstract,
+            String location,
+            String streamUrl,
+            String language,
+            Instant scheduledAt,
+            List<InternetAddress> requiredAttendees,
+            List<InternetAddress> optionalAttendees
+    ) {
         return new CalendarService.CalendarEvent(
-                "Thesis Presentation \"" + presentation.getThesis().getTitle() + "\"",
+                "Thesis Presentation \"" + thesisTitle + "\"",
                 location == null || location.isBlank() ? streamUrl : location,
-                "Title: " + presentation.getThesis().getTitle() + "\n" +
+                "Title: " + thesisTitle + "\n" +
                         (streamUrl != null && !streamUrl.isBlank() ? "Stream URL: " + streamUrl + "\n" : "") + "\n" +
-                        "Language: " + presentation.getLanguage() + "\n\n" +
-                        "Details: " + clientHost + "/presentations/" + presentation.getId() + "\n\n" +
-                        "Abstract:\n" + presentation.getThesis().getAbstractField(),
-                presentation.getScheduledAt(),
-                presentation.getScheduledAt().plus(45, ChronoUnit.MINUTES),
+                        "Language: " + language + "\n\n" +
+                        "Details: " + clientHost + "/presentations/" + presentationId + "\n\n" +
+                        "Abstract:\n" + thesisAbstract,
+                scheduledAt,
+                scheduledAt.plus(45, ChronoUnit.MINUTES),
                 this.applicationMail,
-                presentation.getThesis().getRoles().stream().map((role) -> role.getUser().getEmail()).toList(),
-                presentation.getInvites().stream().map(ThesisPresentationInvite::getEmail).toList()
+                requiredAttendees,
+                optionalAttendees
         );
     }
 }
@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,9 @@ import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersExceptio
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.*;
 import de.tum.cit.aet.thesis.utility.DataFormatter;
+import de.tum.cit.aet.thesis.utility.FullTextSearch;
+import de.tum.cit.aet.thesis.utility.HibernateHelper;
+import de.tum.cit.aet.thesis.utility.KeysetCursor;
 import de.tum.cit.aet.thesis.utility.PDFBuilder;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
 
@@ -39,6 +43,8 @@ public class ThesisService {
     private final ThesisPresentationService thesisPresentationService;
     private final ThesisFeedbackRepository thesisFeedbackRepository;
     private final ThesisFileRepository thesisFileRepository;
+    private final DashboardService dashboardService;
+    private final ResponseCacheService responseCacheService;
 
     @Autowired
     public ThesisService(
@@ -52,7 +58,9 @@ public class ThesisService {
             MailingService mailingService,
             AccessManagementService accessManagementService,
             ThesisPresentationService thesisPresentationService,
-            ThesisFeedbackRepository thesisFeedbackRepository, ThesisFileRepository thesisFileRepository) {
+            ThesisFeedbackRepository thesisFeedbackRepository, ThesisFileRepository thesisFileRepository,
+            DashboardService dashboardService,
+            ResponseCacheService responseCacheService) {
         this.thesisRoleRepository = thesisRoleRepository;
         this.thesisRepository = thesisRepository;
         this.thesisStateChangeRepository = thesisStateChangeRepository;
@@ -65,6 +73,8 @@ public class ThesisService {
         this.thesisPresentationService = thesisPresentationService;
         this.thesisFeedbackRepository = thesisFeedbackRepository;
         this.thesisFileRepository = thesisFileRepository;
+        this.dashboardService = dashboardService;
+        this.responseCacheService = responseCacheService;
     }
 
     public Page<Thesis> getAll(
@@ -78,20 +88,74 @@ public class ThesisService {
             String sortBy,
             String sortOrder
     ) {
-        Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+        Sort.Order order = new Sort.Order(
+                sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+                HibernateHelper.getColumnName(Thesis.class, sortBy)
+        );
 
         String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
-        Set<ThesisState> statesFilter = states == null || states.length == 0 ? null : new HashSet<>(Arrays.asList(states));
-        Set<String> typesFilter = types == null || types.length == 0 ? null : new HashSet<>(Arrays.asList(types));
+        String[] visibilitiesFilter = visibilities == null ? null : visibilities.stream().map(ThesisVisibility::name).toArray(String[]::new);
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ThesisState::name).toArray(String[]::new);
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
 
-        return thesisRepository.searchTheses(
+        Page<Thesis> theses = thesisRepository.searchTheses(
                 userId,
-                visibilities,
+                visibilitiesFilter,
                 searchQueryFilter,
+                FullTextSearch.toPrefixQuery(searchQueryFilter),
                 statesFilter,
                 typesFilter,
                 PageRequest.of(page, limit, Sort.by(order))
         );
+
+        // load roles and users of the whole page in one statement, remaining collections are batch fetched on access
+        if (!theses.isEmpty()) {
+            thesisRepository.fetchRolesByThesisIds(theses.map(Thesis::getId).toList());
+        }
+
+        return theses;
+    }
+
+    public Slice<Thesis> scrollAll(
+            UUID userId,
+            Set<ThesisVisibility> visibilities,
+            String searchQuery,
+            ThesisState[] states,
+            String[] types,
+            KeysetCursor after,
+            int limit,
+            String sortBy,
+            String sortOrder
+    ) {
+        if (!sortBy.equals("createdAt")) {
+            throw new ResourceInvalidParametersException("Cursor pagination only supports sorting by createdAt");
+        }
+
+        Sort.Direction direction = sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
+        String[] visibilitiesFilter = visibilities == null ? null : visibilities.stream().map(ThesisVisibility::name).toArray(String[]::new);
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ThesisState::name).toArray(String[]::new);
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+
+        Slice<Thesis> theses = thesisRepository.scrollTheses(
+                userId,
+                visibilitiesFilter,
+                searchQueryFilter,
+                FullTextSearch.toPrefixQuery(searchQueryFilter),
+                statesFilter,
+                typesFilter,
+                after == null ? null : after.sortValue(),
+                after == null ? null : after.id(),
+                direction == Sort.Direction.ASC,
+                PageRequest.of(0, limit, Sort.by(direction, "created_at", "thesis_id"))
+        );
+
+        if (!theses.isEmpty()) {
+            thesisRepository.fetchRolesByThesisIds(theses.map(Thesis::getId).toList());
+        }
+
+        return theses;
     }
 
     @Transactional
@@ -188,6 +252,7 @@ public class ThesisService {
         thesis.setEndDate(endDate);
 
         assignThesisRoles(thesis, updatingUser, supervisorIds, advisorIds, studentIds);
+        invalidatePublishedResponses();
 
         for (ThesisStatePayload state : states) {
             saveStateChange(thesis, state.state(), state.changedAt());
@@ -211,6 +276,9 @@ public class ThesisService {
 
         thesis = thesisRepository.save(thesis);
 
+        dashboardService.invalidateTasks();
+        invalidatePublishedResponses();
+
         thesisPresentationService.updateThesisCalendarEvents(thesis);
 
         return thesis;
@@ -230,6 +298,9 @@ public class ThesisService {
 
         thesis = thesisRepository.save(thesis);
 
+        dashboardService.invalidateTasks();
+        invalidatePublishedResponses();
+
         thesisPresentationService.updateThesisCalendarEvents(thesis);
 
         return thesis;
@@ -321,6 +392,8 @@ public class ThesisService {
 
         thesisProposalRepository.save(proposal);
 
+        dashboardService.invalidateTasks();
+
         mailingService.sendProposalUploadedEmail(proposal);
 
         return thesisRepository.save(thesis);
@@ -337,6 +410,8 @@ public class ThesisService {
                 thesis.getProposals().stream().filter(proposal -> !proposal.getId().equals(proposalId)).toList()
         ));
 
+        dashboardService.invalidateTasks();
+
         return thesis;
     }
 
@@ -453,7 +528,7 @@ public class ThesisService {
 
     public Resource getAssessmentFile(Thesis thesis) {
         ThesisAssessment assessment = thesis.getAssessments().getFirst();
-        ThesisPresentation presentation = thesis.getPresentations().getFirst();
+        ThesisPresentation presentation = thesis.getPresentations().isEmpty() ? null : thesis.getPresentations().getFirst();
 
         String students = String.join(", ", thesis.getStudents().stream().map(student -> student.getFirstName() + " " + student.getLastName()).toList());
         String advisors = String.join(", ", thesis.getAdvisors().stream().map(advisor -> advisor.getFirstName() + " " + advisor.getLastName()).toList());
@@ -487,7 +562,11 @@ public class ThesisService {
                 .addSection("Weaknesses", assessment.getNegatives())
                 .addSection("Grade Suggestion", assessment.getGradeSuggestion());
 
-        return builder.build();
+        return uploadService.loadOrStore(
+                "assessment-" + assessment.getId() + "-" + builder.getContentHash(),
+                "pdf",
+                builder::build
+        );
     }
 
     /* GRADING */
@@ -529,13 +608,14 @@ public class ThesisService {
                 user.getId(),
                 null,
                 null,
-                Set.of(
-                        ThesisState.PROPOSAL,
-                        ThesisState.WRITING,
-                        ThesisState.SUBMITTED,
-                        ThesisState.ASSESSED,
-                        ThesisState.GRADED
-                ),
+                null,
+                new String[] {
+                        ThesisState.PROPOSAL.name(),
+                        ThesisState.WRITING.name(),
+                        ThesisState.SUBMITTED.name(),
+                        ThesisState.ASSESSED.name(),
+                        ThesisState.GRADED.name()
+                },
                 null,
                 PageRequest.ofSize(1)
         );
@@ -602,6 +682,8 @@ public class ThesisService {
             User student = students.get(i);
             saveThesisRole(thesis, assigner, student, ThesisRoleName.STUDENT, i);
         }
+
+        dashboardService.invalidateTasks();
     }
 
     private void saveStateChange(Thesis thesis, ThesisState state, Instant changedAt) {
@@ -619,6 +701,17 @@ public class ThesisService {
         Set<ThesisStateChange> stateChanges = thesis.getStates();
         stateChanges.add(stateChange);
         thesis.setStates(stateChanges);
+
+        dashboardService.invalidateTasks();
+        invalidatePublishedResponses();
+    }
+
+    // published presentations embed their thesis, so both public responses depend on thesis data
+    private void invalidatePublishedResponses() {
+        responseCacheService.invalidate(
+                ResponseCacheService.Section.PUBLISHED_THESES,
+                ResponseCacheService.Section.PUBLISHED_PRESENTATIONS
+        );
     }
 
     private void saveThesisRole(Thesis thesis, User assigner, User user, ThesisRoleName role, int position) {
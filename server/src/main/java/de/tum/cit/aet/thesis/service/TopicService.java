@@ -26,12 +26,25 @@ public class TopicService {
     private final TopicRepository topicRepository;
     private final TopicRoleRepository topicRoleRepository;
     private final UserRepository userRepository;
+    private final ResponseCacheService responseCacheService;
+    private final EntityCacheService entityCacheService;
+    private final DashboardService dashboardService;
 
     @Autowired
-    public TopicService(TopicRepository topicRepository, TopicRoleRepository topicRoleRepository, UserRepository userRepository) {
+    public TopicService(
+            TopicRepository topicRepository,
+            TopicRoleRepository topicRoleRepository,
+            UserRepository userRepository,
+            ResponseCacheService responseCacheService,
+            EntityCacheService entityCacheService,
+            DashboardService dashboardService
+    ) {
         this.topicRepository = topicRepository;
         this.topicRoleRepository = topicRoleRepository;
         this.userRepository = userRepository;
+        this.responseCacheService = responseCacheService;
+        this.entityCacheService = entityCacheService;
+        this.dashboardService = dashboardService;
     }
 
     public Page<Topic> getAll(
@@ -87,6 +100,10 @@ public class TopicService {
 
         assignTopicRoles(topic, creator, advisorIds, supervisorIds);
 
+        responseCacheService.invalidate(ResponseCacheService.Section.TOPICS);
+        entityCacheService.evictTopic(topic.getId());
+        dashboardService.invalidateTasks();
+
         return topicRepository.save(topic);
     }
 
@@ -113,6 +130,10 @@ public class TopicService {
 
         assignTopicRoles(topic, updater, advisorIds, supervisorIds);
 
+        responseCacheService.invalidate(ResponseCacheService.Section.TOPICS);
+        entityCacheService.evictTopic(topic.getId());
+        dashboardService.invalidateTasks();
+
         return topicRepository.save(topic);
     }
 
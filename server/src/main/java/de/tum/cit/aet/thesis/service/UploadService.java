@@ -1,7 +1,9 @@
 package de.tum.cit.aet.thesis.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
@@ -11,24 +13,52 @@ import org.springframework.web.multipart.MultipartFile;
 import de.tum.cit.aet.thesis.constants.UploadFileType;
 import de.tum.cit.aet.thesis.exception.UploadException;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @Service
 public class UploadService {
+    private static final Pattern CONTENT_HASH_FILENAME = Pattern.compile("^[0-9a-f]{64}\\.[^/\\\\]*$");
+
+    // formats ImageIO can decode, other images like webp are served in their original size
+    private static final Set<String> RESIZABLE_IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif");
+
+    // larger images are not decoded at all, so a small but highly compressed upload cannot exhaust the heap
+    private static final long MAX_RESIZABLE_PIXELS = 16_000_000;
+
     private final Path rootLocation;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public UploadService(@Value("${thesis-management.storage.upload-location}") String uploadLocation) {
+    public UploadService(@Value("${thesis-management.storage.upload-location}") String uploadLocation, MeterRegistry meterRegistry) {
         this.rootLocation = Path.of(uploadLocation);
+        this.meterRegistry = meterRegistry;
 
         File uploadDirectory = rootLocation.toFile();
 
@@ -38,6 +68,8 @@ public class UploadService {
     }
 
     public String store(MultipartFile file, Integer maxSize, UploadFileType type) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
         try {
             if (file.isEmpty()) {
                 throw new UploadException("Failed to store empty file");
@@ -70,30 +102,125 @@ public class UploadService {
                 throw new UploadException("File type not allowed");
             }
 
-            String filename = StringUtils.cleanPath(computeFileHash(file) + "." + extension);
-
-            if (filename.contains("..")) {
+            if (StringUtils.cleanPath(extension).contains("..")) {
                 throw new UploadException("Cannot store file with relative path outside current directory");
             }
 
-            try (InputStream inputStream = file.getInputStream()) {
-                Files.copy(inputStream, rootLocation.resolve(filename), StandardCopyOption.REPLACE_EXISTING);
+            Path tempFile = Files.createTempFile(rootLocation, "upload-", ".tmp");
+
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+                try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                    Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                String filename = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+                Path destination = resolve(filename);
+
+                if (!touch(destination)) {
+                    Files.createDirectories(destination.getParent());
+                    Files.move(tempFile, destination, StandardCopyOption.ATOMIC_MOVE);
+                }
+
+                sample.stop(meterRegistry.timer("upload_duration", "type", type.name()));
+                DistributionSummary.builder("upload_size")
+                        .baseUnit("bytes")
+                        .tag("type", type.name())
+                        .register(meterRegistry)
+                        .record(file.getSize());
 
                 return filename;
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        catch (IOException | NoSuchAlgorithmException e) {
+            throw new UploadException("Failed to store file", e);
+        }
+    }
+
+    // generated files are stored under the hash of their cache key, so identical inputs are only rendered once
+    // and the files are collected by the orphan cleanup like any other unreferenced upload
+    public FileSystemResource loadOrStore(String key, String extension, Supplier<byte[]> generator) {
+        try {
+            if (StringUtils.cleanPath(extension).contains("..")) {
+                throw new UploadException("Cannot store file with relative path outside current directory");
             }
+
+            byte[] keyHash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            String filename = HexFormat.of().formatHex(keyHash) + "." + extension;
+            Path destination = resolve(filename);
+
+            if (!touch(destination)) {
+                Path tempFile = Files.createTempFile(rootLocation, "upload-", ".tmp");
+
+                try {
+                    Files.write(tempFile, generator.get());
+                    Files.createDirectories(destination.getParent());
+                    Files.move(tempFile, destination, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+
+            return load(filename);
         }
         catch (IOException | NoSuchAlgorithmException e) {
             throw new UploadException("Failed to store file", e);
         }
     }
 
+    // resized variants are derived on first request and stored next to the original, the variant of a
+    // content addressed original never changes and can be cached by clients indefinitely
+    public FileSystemResource loadImage(String filename, int maxSize) {
+        String extension = FilenameUtils.getExtension(filename).toLowerCase(Locale.ROOT);
+        FileSystemResource original = load(filename);
+
+        if (!RESIZABLE_IMAGE_EXTENSIONS.contains(extension)) {
+            return original;
+        }
+
+        // jpegs stay jpegs, everything else may have transparency and is written as png
+        String variantExtension = extension.equals("jpg") || extension.equals("jpeg") ? "jpg" : "png";
+
+        try {
+            return loadOrStore(
+                    "image-" + filename + "-" + maxSize,
+                    variantExtension,
+                    () -> resizeImage(original, maxSize, variantExtension)
+            );
+        } catch (UploadException exception) {
+            return original;
+        }
+    }
+
+    // an existing file might be an orphan older than the cleanup grace period, refreshing its modification
+    // time keeps the cleanup from deleting it before the new reference to it is saved
+    private boolean touch(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+
+            return true;
+        } catch (NoSuchFileException exception) {
+            return false;
+        }
+    }
+
     public FileSystemResource load(String filename) {
         try {
             if (filename.contains("..")) {
                 throw new UploadException("Cannot load file with relative path outside current directory");
             }
 
-            FileSystemResource file =  new FileSystemResource(rootLocation.resolve(filename));
+            Path path = resolve(filename);
+
+            // files that were not migrated to the sharded layout yet are still located in the root folder
+            if (!Files.exists(path)) {
+                path = rootLocation.resolve(filename);
+            }
+
+            FileSystemResource file =  new FileSystemResource(path);
 
             file.contentLength();
 
@@ -103,13 +230,125 @@ public class UploadService {
         }
     }
 
-    private String computeFileHash(MultipartFile file) throws IOException, NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        try (InputStream inputStream = file.getInputStream()) {
-            byte[] fileBytes = IOUtils.toByteArray(inputStream);
-            byte[] hashBytes = digest.digest(fileBytes);
+    public int migrateToShardedLayout() {
+        int migratedFiles = 0;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(rootLocation)) {
+            for (Path file : stream) {
+                String filename = file.getFileName().toString();
+
+                if (!Files.isRegularFile(file) || !CONTENT_HASH_FILENAME.matcher(filename).matches()) {
+                    continue;
+                }
+
+                Path destination = resolve(filename);
+
+                if (Files.exists(destination)) {
+                    Files.delete(file);
+                } else {
+                    Files.createDirectories(destination.getParent());
+                    Files.move(file, destination, StandardCopyOption.ATOMIC_MOVE);
+                }
+
+                migratedFiles++;
+            }
+        } catch (IOException e) {
+            throw new UploadException("Failed to migrate upload directory", e);
+        }
+
+        return migratedFiles;
+    }
+
+    public int deleteUnreferencedFiles(Set<String> referencedFilenames, Instant uploadedBefore) {
+        int deletedFiles = 0;
+
+        try (Stream<Path> files = Files.walk(rootLocation, 3)) {
+            for (Path file : files.toList()) {
+                String filename = file.getFileName().toString();
+
+                if (
+                        !Files.isRegularFile(file) ||
+                        file.getParent().equals(rootLocation) ||
+                        !CONTENT_HASH_FILENAME.matcher(filename).matches() ||
+                        referencedFilenames.contains(filename) ||
+                        Files.getLastModifiedTime(file).toInstant().isAfter(uploadedBefore)
+                ) {
+                    continue;
+                }
+
+                Files.delete(file);
+
+                deletedFiles++;
+            }
+        } catch (IOException e) {
+            throw new UploadException("Failed to delete unreferenced files", e);
+        }
+
+        return deletedFiles;
+    }
+
+    private byte[] resizeImage(FileSystemResource original, int maxSize, String extension) {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(original.getFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+
+            if (!readers.hasNext()) {
+                throw new UploadException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(inputStream, true, true);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                if ((long) width * height > MAX_RESIZABLE_PIXELS) {
+                    throw new UploadException("Image is too large to resize");
+                }
+
+                BufferedImage source = reader.read(0);
+                double scale = Math.min(1, (double) maxSize / Math.max(width, height));
+                int targetWidth = Math.max(1, (int) Math.round(width * scale));
+                int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+                BufferedImage target = new BufferedImage(
+                        targetWidth,
+                        targetHeight,
+                        extension.equals("jpg") ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB
+                );
+                Graphics2D graphics = target.createGraphics();
+
+                try {
+                    // area averaging keeps thin lines and faces legible when shrinking by large factors
+                    graphics.drawImage(source.getScaledInstance(targetWidth, targetHeight, Image.SCALE_AREA_AVERAGING), 0, 0, null);
+                } finally {
+                    graphics.dispose();
+                }
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+                if (!ImageIO.write(target, extension, outputStream)) {
+                    throw new UploadException("Unsupported image format");
+                }
+
+                return outputStream.toByteArray();
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UploadException("Failed to resize image", e);
+        }
+    }
 
-            return HexFormat.of().formatHex(hashBytes);
+    private Path resolve(String filename) {
+        if (!CONTENT_HASH_FILENAME.matcher(filename).matches()) {
+            return rootLocation.resolve(filename);
         }
+
+        return rootLocation
+                .resolve(filename.substring(0, 2))
+                .resolve(filename.substring(2, 4))
+                .resolve(filename);
     }
 }
@@ -4,11 +4,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.utility.KeysetCursor;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -36,6 +39,26 @@ public class UserService {
                 .searchUsers(searchQueryFilter, groupsFilter, PageRequest.of(page, limit, Sort.by(order)));
     }
 
+    public Slice<User> scrollAll(String searchQuery, String[] groups, KeysetCursor after, Integer limit, String sortBy, String sortOrder) {
+        if (!sortBy.equals("joinedAt")) {
+            throw new ResourceInvalidParametersException("Cursor pagination only supports sorting by joinedAt");
+        }
+
+        Sort.Direction direction = sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
+        Set<String> groupsFilter = groups == null || groups.length == 0 ? null : new HashSet<>(Arrays.asList(groups));
+
+        return userRepository.scrollUsers(
+                searchQueryFilter,
+                groupsFilter,
+                after == null ? null : after.sortValue(),
+                after == null ? null : after.id(),
+                direction == Sort.Direction.ASC,
+                PageRequest.of(0, limit, Sort.by(direction, "joinedAt", "id"))
+        );
+    }
+
     public Resource getExaminationReport(User user) {
         return uploadService.load(user.getExaminationFilename());
     }
@@ -0,0 +1,50 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class FileResponse {
+    public static CacheControl immutablePrivate() {
+        return CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+    }
+
+    public static CacheControl revalidatePrivate() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    public static CacheControl revalidatePublic() {
+        return CacheControl.noCache().cachePublic();
+    }
+
+    // stored filenames are content hashes, so they are used as strong ETag
+    // Spring MVC answers If-None-Match with 304 and Range requests with 206 based on these headers
+    public static ResponseEntity<Resource> build(
+            Resource resource,
+            String storedFilename,
+            MediaType contentType,
+            String contentDisposition,
+            CacheControl cacheControl
+    ) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .eTag(FilenameUtils.getBaseName(storedFilename))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+
+        try {
+            builder.lastModified(resource.lastModified());
+        } catch (IOException ignored) {
+            // the ETag alone is sufficient for conditional requests
+        }
+
+        return builder.body(resource);
+    }
+}
@@ -0,0 +1,19 @@
+package de.tum.cit.aet.thesis.utility;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class FullTextSearch {
+    // builds a tsquery that matches documents containing words starting with every search term
+    public static String toPrefixQuery(String searchQuery) {
+        if (searchQuery == null) {
+            return null;
+        }
+
+        // only letters and digits are kept so user input can never contain tsquery operators
+        return Arrays.stream(searchQuery.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
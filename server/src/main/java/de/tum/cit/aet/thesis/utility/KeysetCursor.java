@@ -0,0 +1,42 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.springframework.data.domain.Slice;
+import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+// opaque position in a list sorted by a timestamp with the id as tie breaker
+public record KeysetCursor(Instant sortValue, UUID id) {
+    public String encode() {
+        String value = sortValue.toString() + "|" + id.toString();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // an empty token requests the first page in cursor mode
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+
+            return new KeysetCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException exception) {
+            throw new ResourceInvalidParametersException("Invalid pagination cursor");
+        }
+    }
+
+    public static <T> String nextCursor(Slice<T> slice, Function<T, KeysetCursor> keyExtractor) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
+        }
+
+        return keyExtractor.apply(slice.getContent().getLast()).encode();
+    }
+}
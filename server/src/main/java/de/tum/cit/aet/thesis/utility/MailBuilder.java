@@ -1,17 +1,10 @@
 package de.tum.cit.aet.thesis.utility;
 
-import jakarta.activation.DataHandler;
-import jakarta.activation.FileDataSource;
-import jakarta.mail.*;
 import jakarta.mail.internet.InternetAddress;
-import jakarta.mail.internet.MimeBodyPart;
-import jakarta.mail.internet.MimeMessage;
-import jakarta.mail.internet.MimeMultipart;
 import jakarta.mail.util.ByteArrayDataSource;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.context.Context;
 import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.dto.ApplicationDto;
@@ -19,12 +12,16 @@ import de.tum.cit.aet.thesis.dto.ThesisCommentDto;
 import de.tum.cit.aet.thesis.dto.ThesisDto;
 import de.tum.cit.aet.thesis.dto.UserDto;
 import de.tum.cit.aet.thesis.entity.*;
-import de.tum.cit.aet.thesis.service.UploadService;
+import de.tum.cit.aet.thesis.service.MailOutboxService;
 
+import java.io.IOException;
 import java.util.*;
 
 public class MailBuilder {
     private static final Logger log = LoggerFactory.getLogger(MailBuilder.class);
+
+    // mail servers limit the recipients per message, so large BCC lists are split into multiple messages
+    private static final int BCC_CHUNK_SIZE = 50;
     private final MailConfig config;
 
     private final List<User> primarySenders;
@@ -113,7 +110,7 @@ public class MailBuilder {
     }
 
     public MailBuilder addPrimaryRecipient(User user) {
-        if (primaryRecipients.contains(user)) {
+        if (containsUser(primaryRecipients, user)) {
             return this;
         }
 
@@ -123,7 +120,7 @@ public class MailBuilder {
     }
 
     public MailBuilder addSecondaryRecipient(User user) {
-        if (secondaryRecipients.contains(user)) {
+        if (containsUser(secondaryRecipients, user)) {
             return this;
         }
 
@@ -251,7 +248,7 @@ public class MailBuilder {
         return this;
     }
 
-    public void send(JavaMailSender mailSender, UploadService uploadService) {
+    public void send(MailOutboxService outbox) {
         List<User> toRecipients = new ArrayList<>();
         List<User> ccRecipients = new ArrayList<>();
 
@@ -262,7 +259,7 @@ public class MailBuilder {
                 }
             }
 
-            if (primarySenders.contains(recipient) && secondaryRecipients.isEmpty()) {
+            if (containsUser(primarySenders, recipient) && secondaryRecipients.isEmpty()) {
                 continue;
             }
 
@@ -284,64 +281,66 @@ public class MailBuilder {
             ccRecipients = new ArrayList<>();
         }
 
-        for (User recipient : toRecipients) {
-            try {
-                MimeMessage message = mailSender.createMimeMessage();
-
-                message.setFrom("ThesisManagement <" + config.getSender().getAddress() + ">");
-                message.setSender(config.getSender());
-
-                message.addRecipient(Message.RecipientType.TO, recipient.getEmail());
+        List<String> ccAddresses = ccRecipients.stream().map(User::getEmail).filter(Objects::nonNull).map(InternetAddress::toString).toList();
+        List<String> bccAddresses = bccRecipients.stream().map(InternetAddress::toString).toList();
+        List<List<String>> bccChunks = new ArrayList<>();
 
-                for (User secondaryRecipient : ccRecipients) {
-                    message.addRecipient(Message.RecipientType.CC, secondaryRecipient.getEmail());
-                }
+        for (int i = 0; i < bccAddresses.size(); i += BCC_CHUNK_SIZE) {
+            bccChunks.add(bccAddresses.subList(i, Math.min(i + BCC_CHUNK_SIZE, bccAddresses.size())));
+        }
 
-                for (InternetAddress address : bccRecipients) {
-                    message.addRecipient(Message.RecipientType.BCC, address);
-                }
+        if (bccChunks.isEmpty()) {
+            bccChunks.add(List.of());
+        }
 
-                Context templateContext = new Context();
-                templateContext.setVariables(this.variables);
-                templateContext.setVariable("recipient", UserDto.fromUserEntity(recipient));
-                templateContext.setVariable("DataFormatter", DataFormatter.class);
+        List<MailOutboxEntry.Attachment> attachments = new ArrayList<>();
 
-                message.setSubject(subject);
+        for (StoredAttachment data : fileAttachments) {
+            attachments.add(new MailOutboxEntry.Attachment(data.filename(), data.file(), null, null));
+        }
 
-                Multipart messageContent = new MimeMultipart();
+        for (RawAttachment data : rawAttachments) {
+            try {
+                attachments.add(new MailOutboxEntry.Attachment(data.filename(), null, data.file().getContentType(), data.file().getInputStream().readAllBytes()));
+            } catch (IOException exception) {
+                log.warn("Failed to read email attachment", exception);
+            }
+        }
 
-                BodyPart messageBody = new MimeBodyPart();
-                messageBody.setContent(config.getTemplateEngine().process(template, templateContext), "text/html; charset=utf-8");
-                messageContent.addBodyPart(messageBody);
+        Context templateContext = new Context();
+        templateContext.setVariables(this.variables);
+        templateContext.setVariable("DataFormatter", DataFormatter.class);
 
-                for (StoredAttachment data : fileAttachments) {
-                    MimeBodyPart attachment = new MimeBodyPart();
+        RecipientTemplate renderedTemplate = toRecipients.isEmpty() ? null : RecipientTemplate.render(
+                config.getTemplateEngine(),
+                config.getSharedTemplateEngine(),
+                template,
+                templateContext
+        );
 
-                    attachment.setDataHandler(new DataHandler(new FileDataSource(uploadService.load(data.file()).getFile())));
-                    attachment.setFileName(data.filename());
+        for (User recipient : toRecipients) {
+            try {
+                InternetAddress address = recipient.getEmail();
 
-                    messageContent.addBodyPart(attachment);
+                if (address == null) {
+                    continue;
                 }
 
-                for (RawAttachment data : rawAttachments) {
-                    MimeBodyPart attachment = new MimeBodyPart();
+                String body = renderedTemplate.fill(UserDto.fromUserEntity(recipient));
 
-                    attachment.setDataHandler(new DataHandler(data.file()));
-                    attachment.setFileName(data.filename());
+                outbox.enqueue(subject, body, List.of(address.toString()), ccAddresses, bccChunks.getFirst(), attachments);
 
-                    messageContent.addBodyPart(attachment);
-                }
-
-                message.setContent(messageContent);
-
-                if (config.isEnabled()) {
-                    mailSender.send(message);
-                } else {
-                    log.info("Sending Mail (postfix disabled)\n{}", MailLogger.getTextFromMimeMessage(message));
+                for (List<String> bccChunk : bccChunks.subList(1, bccChunks.size())) {
+                    outbox.enqueue(subject, body, List.of(), List.of(), bccChunk, attachments);
                 }
             } catch (Exception exception) {
-                log.warn("Failed to send email", exception);
+                log.warn("Failed to queue email", exception);
             }
         }
     }
+
+    // users might come from different persistence contexts, so they are compared by id instead of identity
+    private static boolean containsUser(List<User> users, User user) {
+        return users.stream().anyMatch(element -> Objects.equals(element.getId(), user.getId()));
+    }
 }
@@ -36,6 +36,9 @@ public class MailConfig {
     @Getter
     private final TemplateEngine templateEngine;
 
+    @Getter
+    private final TemplateEngine sharedTemplateEngine;
+
     @Autowired
     public MailConfig(
             @Value("${thesis-management.mail.enabled}") boolean enabled,
@@ -54,6 +57,7 @@ public class MailConfig {
         this.clientHost = clientHost;
 
         this.templateEngine = templateEngine;
+        this.sharedTemplateEngine = RecipientTemplate.createSharedTemplateEngine(templateEngine);
         this.userRepository = userRepository;
 
         if (bccRecipientsList != null && !bccRecipientsList.isEmpty()) {
@@ -0,0 +1,31 @@
+package de.tum.cit.aet.thesis.utility;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+public class OutboundRequestMetrics {
+    // the uri is not tagged because it contains user and event ids, the target and method keep the series bounded
+    public static ExchangeFilterFunction filter(MeterRegistry meterRegistry, String target) {
+        return (request, next) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return next.exchange(request)
+                    .doOnSuccess(response -> sample.stop(getTimer(
+                            meterRegistry,
+                            target,
+                            request.method().name(),
+                            response == null ? "NONE" : String.valueOf(response.statusCode().value())
+                    )))
+                    .doOnError(exception -> sample.stop(getTimer(meterRegistry, target, request.method().name(), "IO_ERROR")));
+        };
+    }
+
+    private static Timer getTimer(MeterRegistry meterRegistry, String target, String method, String status) {
+        return Timer.builder("outbound_requests")
+                .tag("target", target)
+                .tag("method", method)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+}
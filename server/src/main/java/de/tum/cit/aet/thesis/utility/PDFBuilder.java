@@ -11,14 +11,26 @@ import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.html2pdf.HtmlConverter;
 
 import com.itextpdf.layout.element.Text;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import com.itextpdf.layout.font.FontSet;
+import com.itextpdf.styledxmlparser.resolver.font.BasicFontProvider;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 
 public class PDFBuilder {
+    // bump when the layout changes so content hashes of previously generated files do not match anymore
+    private static final String LAYOUT_VERSION = "1";
+
+    // loading the standard fonts is expensive, so the font set is only built once. Font providers cache the
+    // fonts of the document they are used for and are therefore created per build on top of the shared set
+    private static final DefaultFontProvider STANDARD_FONT_PROVIDER = new DefaultFontProvider(true, false, false);
+    private static final FontSet STANDARD_FONTS = STANDARD_FONT_PROVIDER.getFontSet();
+
     private final String heading;
     private final List<Section> sections;
     private final List<Data> data;
@@ -44,7 +56,7 @@ public class PDFBuilder {
         return this;
     }
 
-    public Resource build() {
+    public byte[] build() {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
         PdfWriter writer = new PdfWriter(outputStream);
@@ -59,7 +71,7 @@ public class PDFBuilder {
         document.add(mainHeadingParagraph);
 
         ConverterProperties converterProperties = new ConverterProperties();
-        converterProperties.setFontProvider(new DefaultFontProvider(true, false, false));
+        converterProperties.setFontProvider(new BasicFontProvider(STANDARD_FONTS, STANDARD_FONT_PROVIDER.getDefaultFontFamily()));
 
         for (Data row : data) {
             Paragraph element = new Paragraph()
@@ -91,6 +103,38 @@ public class PDFBuilder {
 
         document.close();
 
-        return new ByteArrayResource(outputStream.toByteArray());
+        return outputStream.toByteArray();
+    }
+
+    public String getContentHash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            updateDigest(digest, LAYOUT_VERSION);
+            updateDigest(digest, heading);
+
+            for (Data row : data) {
+                updateDigest(digest, row.title);
+                updateDigest(digest, row.value);
+            }
+
+            for (Section row : sections) {
+                updateDigest(digest, row.heading);
+                updateDigest(digest, row.htmlContent);
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // values are length prefixed so moving text between neighbouring fields changes the hash
+    private static void updateDigest(MessageDigest digest, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+
+        digest.update(Integer.toString(value == null ? -1 : bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
     }
 }
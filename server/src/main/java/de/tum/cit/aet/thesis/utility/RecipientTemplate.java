@@ -0,0 +1,98 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.DefaultTemplateResolver;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import de.tum.cit.aet.thesis.dto.UserDto;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+// Renders the recipient independent part of a mail template once and only the salutation fragment for every recipient.
+// The shared part is rendered with an opaque recipient, so any other use of the recipient fails and the whole template
+// is rendered per recipient instead.
+public class RecipientTemplate {
+    private static final String SALUTATION_TEMPLATE = "fragments/salutation";
+    private static final String SALUTATION_FRAGMENT = "main";
+    private static final String SALUTATION_MARKER = "{{salutation-" + UUID.randomUUID() + "}}";
+
+    private final TemplateEngine templateEngine;
+    private final String template;
+    private final Context context;
+    private final String body;
+
+    private RecipientTemplate(TemplateEngine templateEngine, String template, Context context, String body) {
+        this.templateEngine = templateEngine;
+        this.template = template;
+        this.context = context;
+        this.body = body;
+    }
+
+    // copies the configuration of the template engine but replaces the salutation fragment with a marker
+    public static TemplateEngine createSharedTemplateEngine(TemplateEngine templateEngine) {
+        DefaultTemplateResolver salutationResolver = new DefaultTemplateResolver();
+        salutationResolver.setOrder(Integer.MIN_VALUE);
+        salutationResolver.setResolvablePatterns(Set.of(SALUTATION_TEMPLATE));
+        salutationResolver.setTemplateMode(TemplateMode.HTML);
+        salutationResolver.setTemplate("<th:block th:fragment=\"" + SALUTATION_FRAGMENT + "\">" + SALUTATION_MARKER + "</th:block>");
+
+        Set<ITemplateResolver> templateResolvers = new HashSet<>(templateEngine.getTemplateResolvers());
+        templateResolvers.add(salutationResolver);
+
+        SpringTemplateEngine sharedTemplateEngine = new SpringTemplateEngine();
+        sharedTemplateEngine.setDialects(templateEngine.getDialects());
+        sharedTemplateEngine.setTemplateResolvers(templateResolvers);
+        sharedTemplateEngine.setMessageResolvers(templateEngine.getMessageResolvers());
+        sharedTemplateEngine.setLinkBuilders(templateEngine.getLinkBuilders());
+
+        return sharedTemplateEngine;
+    }
+
+    public static RecipientTemplate render(
+            TemplateEngine templateEngine,
+            TemplateEngine sharedTemplateEngine,
+            String template,
+            Context context
+    ) {
+        String body;
+
+        try {
+            context.setVariable("recipient", new UnavailableRecipient());
+            body = sharedTemplateEngine.process(template, context);
+        } catch (Exception exception) {
+            // the template uses the recipient outside the salutation
+            body = null;
+        }
+
+        return new RecipientTemplate(templateEngine, template, context, body);
+    }
+
+    public String fill(UserDto recipient) {
+        context.setVariable("recipient", recipient);
+
+        if (body == null) {
+            return templateEngine.process(template, context);
+        }
+
+        if (!body.contains(SALUTATION_MARKER)) {
+            return body;
+        }
+
+        return body.replace(
+                SALUTATION_MARKER,
+                templateEngine.process(SALUTATION_TEMPLATE, Set.of(SALUTATION_FRAGMENT), context)
+        );
+    }
+
+    // has no properties and cannot be printed, so every expression depending on the recipient fails
+    private static final class UnavailableRecipient {
+        @Override
+        public String toString() {
+            throw new IllegalStateException("Recipient is not available in the shared part of the template");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset emilius:08-upload-references-1
+CREATE TABLE upload_references
+(
+    filename        TEXT      NOT NULL,
+    reference_count INT       NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP NOT NULL,
+    PRIMARY KEY (filename)
+);
@@ -0,0 +1,22 @@
+--liquibase formatted sql
+
+--changeset emilius:09-mail-outbox-1
+CREATE TABLE mail_outbox
+(
+    outbox_id       UUID      NOT NULL PRIMARY KEY,
+    state           TEXT      NOT NULL,
+    subject         TEXT      NOT NULL,
+    body            TEXT      NOT NULL,
+    to_addresses    JSONB     NOT NULL,
+    cc_addresses    JSONB     NOT NULL,
+    bcc_addresses   JSONB     NOT NULL,
+    attachments     JSONB     NOT NULL,
+    attempts        INT       NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error      TEXT,
+    created_at      TIMESTAMP NOT NULL,
+    sent_at         TIMESTAMP
+);
+
+--changeset emilius:09-mail-outbox-2
+CREATE INDEX idx_mail_outbox_state_next_attempt_at ON mail_outbox (state, next_attempt_at);
@@ -0,0 +1,32 @@
+--liquibase formatted sql
+
+--changeset emilius:10-thesis-search-1
+ALTER TABLE theses ADD COLUMN search_vector TSVECTOR;
+
+--changeset emilius:10-thesis-search-2 splitStatements:false
+CREATE FUNCTION theses_search_vector_update() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW.search_vector :=
+            setweight(to_tsvector('simple', COALESCE(NEW.title, '')), 'A') ||
+            setweight(to_tsvector('simple', COALESCE(array_to_string(NEW.keywords, ' '), '')), 'B') ||
+            setweight(to_tsvector('simple', COALESCE(NEW.abstract, '')), 'C') ||
+            setweight(to_tsvector('simple', COALESCE(NEW.info, '')), 'D');
+
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+--changeset emilius:10-thesis-search-3
+CREATE TRIGGER theses_search_vector_trigger
+    BEFORE INSERT OR UPDATE OF title, keywords, abstract, info
+    ON theses
+    FOR EACH ROW
+EXECUTE FUNCTION theses_search_vector_update();
+
+--changeset emilius:10-thesis-search-4
+-- fires the trigger for all existing theses
+UPDATE theses SET title = title;
+
+--changeset emilius:10-thesis-search-5
+CREATE INDEX idx_theses_search_vector ON theses USING GIN (search_vector);
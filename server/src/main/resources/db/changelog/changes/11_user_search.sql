@@ -0,0 +1,18 @@
+--liquibase formatted sql
+
+--changeset emilius:11-user-search-1
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+--changeset emilius:11-user-search-2
+ALTER TABLE users ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+    LOWER(
+        COALESCE(first_name, '') || ' ' ||
+        COALESCE(last_name, '') || ' ' ||
+        COALESCE(email, '') || ' ' ||
+        COALESCE(matriculation_number, '') || ' ' ||
+        university_id
+    )
+) STORED;
+
+--changeset emilius:11-user-search-3
+CREATE INDEX idx_users_search_text ON users USING GIN (search_text gin_trgm_ops);
@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset emilius:12-keyset-pagination-1
+CREATE INDEX idx_theses_created_at_thesis_id ON theses (created_at, thesis_id);
+
+--changeset emilius:12-keyset-pagination-2
+-- replaces the single column index because the cursor needs the id as tie breaker
+CREATE INDEX idx_applications_created_at_application_id ON applications (created_at, application_id);
+DROP INDEX idx_applications_created_at;
+
+--changeset emilius:12-keyset-pagination-3
+CREATE INDEX idx_users_joined_at_user_id ON users (joined_at, user_id);
+
+--changeset emilius:12-keyset-pagination-4
+CREATE INDEX idx_thesis_comments_thesis_id_type_created_at ON thesis_comments (thesis_id, type, created_at, comment_id);
@@ -0,0 +1,24 @@
+--liquibase formatted sql
+
+--changeset emilius:13-query-indexes-1
+CREATE INDEX idx_thesis_roles_user_id ON thesis_roles (user_id);
+CREATE INDEX idx_topic_roles_user_id ON topic_roles (user_id);
+CREATE INDEX idx_user_groups_group ON user_groups ("group");
+CREATE INDEX idx_application_reviewers_user_id ON application_reviewers (user_id);
+
+--changeset emilius:13-query-indexes-2
+CREATE INDEX idx_applications_user_id ON applications (user_id);
+CREATE INDEX idx_applications_topic_id ON applications (topic_id);
+CREATE INDEX idx_applications_state ON applications (state);
+CREATE INDEX idx_theses_application_id ON theses (application_id);
+
+--changeset emilius:13-query-indexes-3
+CREATE INDEX idx_thesis_presentations_thesis_id ON thesis_presentations (thesis_id);
+CREATE INDEX idx_thesis_presentations_scheduled_at ON thesis_presentations (scheduled_at);
+CREATE INDEX idx_thesis_proposals_thesis_id ON thesis_proposals (thesis_id);
+CREATE INDEX idx_thesis_assessments_thesis_id ON thesis_assessments (thesis_id);
+CREATE INDEX idx_thesis_feedback_thesis_id ON thesis_feedback (thesis_id);
+CREATE INDEX idx_thesis_files_thesis_id ON thesis_files (thesis_id);
+
+--changeset emilius:13-query-indexes-4
+CREATE INDEX idx_topics_title_trgm ON topics USING GIN (title gin_trgm_ops);
@@ -0,0 +1,4 @@
+--liquibase formatted sql
+
+--changeset emilius:14-thesis-export-1
+CREATE INDEX idx_theses_state_end_date ON theses (state, end_date);
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset emilius:15-calendar-outbox-1
+CREATE TABLE calendar_outbox
+(
+    event_id        TEXT      NOT NULL PRIMARY KEY,
+    content         TEXT,
+    etag            TEXT,
+    revision        BIGINT    NOT NULL DEFAULT 1,
+    attempts        INT       NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP,
+    last_error      TEXT,
+    updated_at      TIMESTAMP NOT NULL
+);
+
+--changeset emilius:15-calendar-outbox-2
+CREATE INDEX idx_calendar_outbox_next_attempt_at ON calendar_outbox (next_attempt_at);
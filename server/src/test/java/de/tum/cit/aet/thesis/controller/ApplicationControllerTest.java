@@ -1,22 +1,31 @@
 package de.tum.cit.aet.thesis.controller;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import de.tum.cit.aet.thesis.constants.ApplicationReviewReason;
 import de.tum.cit.aet.thesis.constants.ApplicationState;
 import de.tum.cit.aet.thesis.controller.payload.AcceptApplicationPayload;
 import de.tum.cit.aet.thesis.controller.payload.CreateApplicationPayload;
+import de.tum.cit.aet.thesis.controller.payload.ReviewApplicationsPayload;
 import de.tum.cit.aet.thesis.controller.payload.UpdateApplicationCommentPayload;
 import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
 
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Testcontainers
@@ -27,6 +36,9 @@ class ApplicationControllerTest extends BaseIntegrationTest {
         configureProperties(registry);
     }
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void createApplication_Success() throws Exception {
         CreateApplicationPayload payload = new CreateApplicationPayload(
@@ -111,4 +123,85 @@ class ApplicationControllerTest extends BaseIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].state").value(ApplicationState.ACCEPTED.getValue()));
     }
+
+    @Test
+    void getApplicationSummaries_WithTopicAndSuggestedThesis_ReturnsTitlesSeparately() throws Exception {
+        String authorization = createRandomAdminAuthentication();
+        UUID topicId = createTestTopic("Summary Topic");
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v2/applications")
+                        .header("Authorization", createRandomAuthentication("student"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateApplicationPayload(topicId, null, "MASTER", Instant.now(), "Test motivation"))))
+                .andExpect(status().isOk());
+        createTestApplication(authorization, "Suggested Thesis");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications/summaries?fetchAll=true&sortOrder=asc")
+                        .header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].topicId").value(topicId.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].topicTitle").value("Summary Topic"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].thesisTitle").isEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].topicTitle").isEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].thesisTitle").value("Suggested Thesis"));
+    }
+
+    @Test
+    void getApplications_WithGrowingPage_ExecutesConstantNumberOfStatements() throws Exception {
+        String reviewerAuthorization = createRandomAuthentication("advisor");
+        UUID topicId = createTestTopic("Topic");
+
+        createReviewedApplications(reviewerAuthorization, topicId, 2);
+
+        long applicationStatements = countStatements("/v2/applications?fetchAll=true", reviewerAuthorization);
+        long summaryStatements = countStatements("/v2/applications/summaries?fetchAll=true", reviewerAuthorization);
+
+        createReviewedApplications(reviewerAuthorization, createTestTopic("Other Topic"), 4);
+        createReviewedApplications(reviewerAuthorization, null, 4);
+
+        assertEquals(applicationStatements, countStatements("/v2/applications?fetchAll=true", reviewerAuthorization));
+        assertEquals(summaryStatements, countStatements("/v2/applications/summaries?fetchAll=true", reviewerAuthorization));
+    }
+
+    private void createReviewedApplications(String reviewerAuthorization, UUID topicId, int count) throws Exception {
+        Set<UUID> applicationIds = new HashSet<>();
+
+        for (int i = 0; i < count; i++) {
+            CreateApplicationPayload payload = new CreateApplicationPayload(
+                    topicId,
+                    topicId == null ? "Suggested Thesis " + i : null,
+                    "MASTER",
+                    Instant.now(),
+                    "Test motivation"
+            );
+
+            String response = mockMvc.perform(MockMvcRequestBuilders.post("/v2/applications")
+                            .header("Authorization", createRandomAuthentication("student"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(payload)))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            applicationIds.add(UUID.fromString(objectMapper.readTree(response).get("applicationId").asText()));
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/v2/applications/review")
+                        .header("Authorization", reviewerAuthorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReviewApplicationsPayload(applicationIds, ApplicationReviewReason.INTERESTED))))
+                .andExpect(status().isOk());
+    }
+
+    private long countStatements(String url, String authorization) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header("Authorization", authorization))
+                .andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
 }
@@ -1,18 +1,24 @@
 package de.tum.cit.aet.thesis.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.*;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import de.tum.cit.aet.thesis.constants.*;
 import de.tum.cit.aet.thesis.controller.payload.*;
 import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
 
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +46,20 @@ class ThesisControllerTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.totalElements", isA(Number.class)));
         }
 
+        @Test
+        void getThesisSummaries_Success() throws Exception {
+            createTestThesis("Test Thesis");
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/summaries")
+                            .header("Authorization", createRandomAdminAuthentication())
+                            .param("fetchAll", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(equalTo(1))))
+                    .andExpect(jsonPath("$.content[0].title").value("Test Thesis"))
+                    .andExpect(jsonPath("$.content[0].supervisors", hasSize(equalTo(1))))
+                    .andExpect(jsonPath("$.content[0].proposals").doesNotExist());
+        }
+
         @Test
         void createThesis_Success() throws Exception {
             UUID advisorId = createTestUser("supervisor", List.of("supervisor", "advisor"));
@@ -109,6 +129,48 @@ class ThesisControllerTest extends BaseIntegrationTest {
                     .andExpect(status().isOk());
         }
 
+        @Test
+        void getProposalFile_WithConditionalAndRangeRequests_Success() throws Exception {
+            String authorization = createRandomAdminAuthentication();
+            UUID thesisId = createTestThesis("Test Thesis");
+            MockMultipartFile proposalFile = new MockMultipartFile(
+                    "proposal",
+                    "test.pdf",
+                    MediaType.APPLICATION_PDF_VALUE,
+                    "test content".getBytes()
+            );
+
+            String response = mockMvc.perform(MockMvcRequestBuilders.multipart("/v2/theses/{thesisId}/proposal", thesisId)
+                            .file(proposalFile)
+                            .header("Authorization", authorization))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            String proposalId = JsonPath.parse(response).read("$.proposals[0].proposalId", String.class);
+
+            String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}/proposal/{proposalId}", thesisId, proposalId)
+                            .header("Authorization", authorization))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(header().string("Accept-Ranges", "bytes"))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader("ETag");
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}/proposal/{proposalId}", thesisId, proposalId)
+                            .header("Authorization", authorization)
+                            .header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}/proposal/{proposalId}", thesisId, proposalId)
+                            .header("Authorization", authorization)
+                            .header("Range", "bytes=0-3"))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(content().string("test"));
+        }
+
         @Test
         void acceptProposal_Success() throws Exception {
             String authorization = createRandomAdminAuthentication();
@@ -236,4 +298,55 @@ class ThesisControllerTest extends BaseIntegrationTest {
                     .andExpect(status().isOk());
         }
     }
+
+    @Nested
+    class ThesisExportOperations {
+        @Test
+        void exportThesis_WithProposal_StreamsArchive() throws Exception {
+            String authorization = createRandomAdminAuthentication();
+            UUID thesisId = createTestThesis("Test Thesis");
+            MockMultipartFile proposalFile = new MockMultipartFile(
+                    "proposal",
+                    "test.pdf",
+                    MediaType.APPLICATION_PDF_VALUE,
+                    "test content".getBytes()
+            );
+
+            mockMvc.perform(MockMvcRequestBuilders.multipart("/v2/theses/{thesisId}/proposal", thesisId)
+                            .file(proposalFile)
+                            .header("Authorization", authorization))
+                    .andExpect(status().isOk());
+
+            MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}/export", thesisId)
+                            .header("Authorization", authorization))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            Assertions.assertEquals(Duration.ofHours(6).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+            byte[] archive = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/zip"))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsByteArray();
+
+            try (ZipInputStream inputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+                ZipEntry entry = inputStream.getNextEntry();
+
+                Assertions.assertNotNull(entry);
+                Assertions.assertTrue(entry.getName().startsWith("proposals/"));
+                Assertions.assertEquals("test content", new String(inputStream.readAllBytes()));
+            }
+        }
+
+        @Test
+        void exportTheses_AsStudent_Forbidden() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/export")
+                            .header("Authorization", createRandomAuthentication("student"))
+                            .param("endsAfter", "2025-04-01T00:00:00Z")
+                            .param("endsBefore", "2025-10-01T00:00:00Z"))
+                    .andExpect(status().isForbidden());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.thesis.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -31,6 +32,46 @@ public class UserControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalElements", isA(Number.class)));
     }
 
+    @Test
+    void getUsers_WithCursor_ReturnsFollowingPage() throws Exception {
+        createRandomAdminAuthentication();
+        createRandomAdminAuthentication();
+        String authorization = createRandomAdminAuthentication();
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.get("/v2/users")
+                        .header("Authorization", authorization)
+                        .param("groups", "admin")
+                        .param("limit", "2")
+                        .param("after", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(equalTo(2))))
+                .andExpect(jsonPath("$.totalElements", equalTo(-1)))
+                .andExpect(jsonPath("$.last", equalTo(false)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = JsonPath.parse(response).read("$.nextCursor", String.class);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/users")
+                        .header("Authorization", authorization)
+                        .param("groups", "admin")
+                        .param("limit", "2")
+                        .param("after", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(equalTo(1))))
+                .andExpect(jsonPath("$.last", equalTo(true)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void getUsers_WithInvalidCursor_BadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/users")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("after", "invalid"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getUsers_AsStudent_Forbidden() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.get("/v2/users")
@@ -4,6 +4,7 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import de.tum.cit.aet.thesis.controller.payload.CreateApplicationPayload;
 import de.tum.cit.aet.thesis.controller.payload.CreateThesisPayload;
 import de.tum.cit.aet.thesis.controller.payload.ReplaceTopicPayload;
 import de.tum.cit.aet.thesis.repository.*;
+import de.tum.cit.aet.thesis.service.ResponseCacheService;
 
 import java.time.Instant;
 import java.util.*;
@@ -85,6 +87,12 @@ public abstract class BaseIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     protected MockMvc mockMvc;
 
@@ -134,6 +142,9 @@ public abstract class BaseIntegrationTest {
         userGroupRepository.deleteAll();
 
         userRepository.deleteAll();
+
+        responseCacheService.invalidate(ResponseCacheService.Section.values());
+        entityManagerFactory.getCache().evictAll();
     }
 
     protected String createRandomAuthentication(String role) throws Exception {
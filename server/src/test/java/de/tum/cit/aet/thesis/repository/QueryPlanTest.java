@@ -0,0 +1,463 @@
+package de.tum.cit.aet.thesis.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
+import de.tum.cit.aet.thesis.constants.ThesisCommentType;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+class QueryPlanTest extends BaseIntegrationTest {
+    // tables that grow with the number of users and theses and must never be read sequentially on a request path
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "users",
+            "user_groups",
+            "theses",
+            "thesis_roles",
+            "thesis_comments",
+            "thesis_presentations",
+            "thesis_proposals",
+            "applications",
+            "application_reviewers"
+    );
+
+    private static final String SEED_DATA = """
+            INSERT INTO users (user_id, university_id, matriculation_number, email, first_name, last_name, updated_at, joined_at)
+            SELECT md5('user-' || i)::UUID, 'plan' || i, LPAD(i::TEXT, 8, '0'), 'plan' || i || '@example.com', 'First' || i, 'Last' || i, NOW(), NOW() - i * INTERVAL '1 minute'
+            FROM generate_series(1, 50000) i;
+
+            INSERT INTO user_groups (user_id, "group")
+            SELECT md5('user-' || i)::UUID, CASE WHEN i BETWEEN 20001 AND 20500 THEN 'advisor' WHEN i BETWEEN 20501 AND 20520 THEN 'supervisor' ELSE 'student' END
+            FROM generate_series(1, 50000) i;
+
+            INSERT INTO user_groups (user_id, "group") VALUES (md5('user-50000')::UUID, 'admin');
+
+            INSERT INTO theses (thesis_id, title, info, abstract, state, visibility, type, created_at, end_date)
+            SELECT md5('thesis-' || i)::UUID, 'Thesis ' || i, 'Info', 'Abstract', CASE WHEN i % 10 = 0 THEN 'WRITING' ELSE 'FINISHED' END, 'PRIVATE', 'MASTER', NOW() - i * INTERVAL '1 hour', NOW() - i * INTERVAL '1 hour' + INTERVAL '180 days'
+            FROM generate_series(1, 20000) i;
+
+            INSERT INTO thesis_roles (thesis_id, user_id, role, assigned_at, assigned_by)
+            SELECT md5('thesis-' || i)::UUID, md5('user-' || i)::UUID, 'STUDENT', NOW(), md5('user-' || i)::UUID FROM generate_series(1, 20000) i
+            UNION ALL
+            SELECT md5('thesis-' || i)::UUID, md5('user-' || (20001 + i % 500))::UUID, 'ADVISOR', NOW(), md5('user-' || i)::UUID FROM generate_series(1, 20000) i
+            UNION ALL
+            SELECT md5('thesis-' || i)::UUID, md5('user-' || (20501 + i % 20))::UUID, 'SUPERVISOR', NOW(), md5('user-' || i)::UUID FROM generate_series(1, 20000) i;
+
+            INSERT INTO applications (application_id, user_id, motivation, state, desired_start_date, comment, created_at, thesis_type)
+            SELECT md5('application-' || i)::UUID, md5('user-' || (i % 50000 + 1))::UUID, 'Motivation', CASE WHEN i % 20 = 0 THEN 'NOT_ASSESSED' ELSE 'REJECTED' END, NOW(), '', NOW() - i * INTERVAL '1 hour', 'MASTER'
+            FROM generate_series(1, 30000) i;
+
+            INSERT INTO application_reviewers (application_id, user_id, reason, reviewed_at)
+            SELECT md5('application-' || i)::UUID, md5('user-' || (20001 + i % 500))::UUID, 'INTERESTED', NOW()
+            FROM generate_series(1, 30000) i;
+
+            INSERT INTO thesis_comments (comment_id, thesis_id, type, message, created_at, created_by)
+            SELECT md5('comment-' || i)::UUID, md5('thesis-' || (i % 20000 + 1))::UUID, CASE WHEN i % 2 = 0 THEN 'THESIS' ELSE 'ADVISOR' END, 'Message', NOW() - i * INTERVAL '1 minute', md5('user-' || (i % 20000 + 1))::UUID
+            FROM generate_series(1, 40000) i;
+
+            INSERT INTO thesis_presentations (presentation_id, thesis_id, type, location, scheduled_at, created_at, created_by, visibility, state, language)
+            SELECT md5('presentation-' || i)::UUID, md5('thesis-' || i)::UUID, 'FINAL', 'Room', NOW() - i * INTERVAL '1 hour', NOW(), md5('user-' || i)::UUID, 'PUBLIC', 'SCHEDULED', 'ENGLISH'
+            FROM generate_series(1, 20000) i;
+
+            INSERT INTO thesis_proposals (proposal_id, thesis_id, proposal_filename, created_at, created_by)
+            SELECT md5('proposal-' || i)::UUID, md5('thesis-' || i)::UUID, 'proposal-' || i || '.pdf', NOW(), md5('user-' || i)::UUID
+            FROM generate_series(1, 20000) i;
+
+            ANALYZE;
+            """;
+
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+    }
+
+    private record PlanCase(String query, Set<String> allowedSequentialScans, Runnable invocation) {}
+
+    private record RecordedStatement(String sql, List<Binding> bindings) {}
+
+    private record Binding(Method method, Object[] arguments) {}
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationReviewerRepository applicationReviewerRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private CalendarOutboxRepository calendarOutboxRepository;
+
+    @Autowired
+    private ThesisCommentRepository thesisCommentRepository;
+
+    @Autowired
+    private ThesisPresentationInviteRepository thesisPresentationInviteRepository;
+
+    @Autowired
+    private ThesisPresentationRepository thesisPresentationRepository;
+
+    @Autowired
+    private ThesisRepository thesisRepository;
+
+    @Autowired
+    private ThesisRoleRepository thesisRoleRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private UploadReferenceRepository uploadReferenceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void removeSeedData() {
+        new JdbcTemplate(dataSource).execute("TRUNCATE users, theses, applications, topics, upload_references, calendar_outbox CASCADE");
+    }
+
+    @Test
+    void planCases_CoverEveryRepositoryQuery() throws ClassNotFoundException {
+        Set<String> coveredQueries = planCases().stream().map(PlanCase::query).collect(Collectors.toSet());
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Repository.class));
+
+        for (BeanDefinition definition : scanner.findCandidateComponents(QueryPlanTest.class.getPackageName())) {
+            Class<?> repository = Class.forName(definition.getBeanClassName());
+
+            for (Method method : repository.getDeclaredMethods()) {
+                String query = repository.getSimpleName() + "." + method.getName();
+
+                if (method.isAnnotationPresent(Query.class)) {
+                    assertTrue(coveredQueries.contains(query), query + " has no query plan case");
+                }
+            }
+        }
+    }
+
+    @Test
+    void repositoryQueries_WithSeededData_AvoidSequentialScansOnLargeTables() throws Exception {
+        new JdbcTemplate(dataSource).execute(SEED_DATA);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> violations = new ArrayList<>();
+
+        for (PlanCase planCase : planCases()) {
+            List<RecordedStatement> statements = StatementRecorder.record(
+                    () -> transactionTemplate.executeWithoutResult(status -> planCase.invocation().run())
+            );
+
+            assertFalse(statements.isEmpty(), planCase.query() + " did not execute a statement");
+
+            for (RecordedStatement statement : statements) {
+                JsonNode plan = explain(statement);
+
+                for (String table : findSequentialScans(plan)) {
+                    if (LARGE_TABLES.contains(table) && !planCase.allowedSequentialScans().contains(table)) {
+                        violations.add(planCase.query() + " scans " + table + " sequentially:\n" + statement.sql() + "\n" + plan.toPrettyString());
+                    }
+                }
+            }
+        }
+
+        assertTrue(violations.isEmpty(), String.join("\n\n", violations));
+    }
+
+    private List<PlanCase> planCases() {
+        UUID student = seededId("user-4242");
+        UUID advisor = seededId("user-20001");
+        UUID thesis = seededId("thesis-4242");
+        List<UUID> applications = List.of(seededId("application-20"), seededId("application-40"), seededId("application-4242"));
+        String[] allVisibilities = {"PUBLIC", "INTERNAL", "STUDENT", "PRIVATE"};
+
+        return List.of(
+                new PlanCase("ApplicationRepository.searchApplications", Set.of(), () -> applicationRepository.searchApplications(
+                        student, null, null, null, null, null, null, true,
+                        PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt"))
+                )),
+                new PlanCase("ApplicationRepository.scrollApplications", Set.of(), () -> applicationRepository.scrollApplications(
+                        student, null, null, null, null, null, null, true, Instant.now(), seededId("application-1"), false,
+                        PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                )),
+                new PlanCase("ApplicationRepository.countUnreviewedApplications", Set.of(), () -> applicationRepository.countUnreviewedApplications(advisor)),
+                // the weekly reminder aggregates over every pending application and reviewer at once
+                new PlanCase("ApplicationRepository.countUnreviewedApplicationsByReviewer", Set.of("application_reviewers"), () -> applicationRepository.countUnreviewedApplicationsByReviewer(
+                        Set.of("admin", "supervisor", "advisor")
+                )),
+                new PlanCase("ApplicationRepository.findPendingApplicationIds", Set.of(), () -> applicationRepository.findPendingApplicationIds(
+                        applications, true
+                )),
+                new PlanCase("ApplicationRepository.findPendingApplicationIdsByTopic", Set.of(), () -> applicationRepository.findPendingApplicationIdsByTopic(
+                        seededId("topic-1"), true
+                )),
+                new PlanCase("ApplicationRepository.rejectApplications", Set.of(), () -> applicationRepository.rejectApplications(
+                        applications, ApplicationRejectReason.TOPIC_FILLED, Instant.now()
+                )),
+                new PlanCase("ApplicationRepository.findAllWithReviewersByIds", Set.of(), () -> applicationRepository.findAllWithReviewersByIds(applications)),
+                new PlanCase("ApplicationRepository.fetchTopicsByApplicationIds", Set.of(), () -> applicationRepository.fetchTopicsByApplicationIds(applications)),
+                new PlanCase("ApplicationRepository.findTopicTitlesByApplicationIds", Set.of(), () -> applicationRepository.findTopicTitlesByApplicationIds(applications)),
+                new PlanCase("ApplicationReviewerRepository.upsertReviews", Set.of(), () -> applicationReviewerRepository.upsertReviews(
+                        applications, advisor, "NOT_INTERESTED", Instant.now()
+                )),
+                new PlanCase("ApplicationReviewerRepository.deleteReviews", Set.of(), () -> applicationReviewerRepository.deleteReviews(applications, advisor)),
+                new PlanCase("ApplicationRepository.existsPendingApplication", Set.of(), () -> applicationRepository.existsPendingApplication(student, null)),
+                new PlanCase("MailOutboxRepository.findDueEntries", Set.of(), () -> mailOutboxRepository.findDueEntries(Instant.now(), PageRequest.of(0, 20))),
+                new PlanCase("MailOutboxRepository.deleteSentEntries", Set.of(), () -> mailOutboxRepository.deleteSentEntries(Instant.now())),
+                new PlanCase("CalendarOutboxRepository.upsertEvent", Set.of(), () -> calendarOutboxRepository.upsertEvent(
+                        "plan-event", "BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n", Instant.now()
+                )),
+                new PlanCase("CalendarOutboxRepository.upsertDeletion", Set.of(), () -> calendarOutboxRepository.upsertDeletion("plan-event", Instant.now())),
+                new PlanCase("CalendarOutboxRepository.findDueEntries", Set.of(), () -> calendarOutboxRepository.findDueEntries(Instant.now(), PageRequest.of(0, 20))),
+                new PlanCase("CalendarOutboxRepository.markSynchronized", Set.of(), () -> calendarOutboxRepository.markSynchronized("plan-event", 1, "\"1\"")),
+                new PlanCase("CalendarOutboxRepository.updateEtag", Set.of(), () -> calendarOutboxRepository.updateEtag("plan-event", "\"1\"")),
+                new PlanCase("CalendarOutboxRepository.deleteSynchronized", Set.of(), () -> calendarOutboxRepository.deleteSynchronized("plan-event", 1)),
+                new PlanCase("CalendarOutboxRepository.scheduleRetry", Set.of(), () -> calendarOutboxRepository.scheduleRetry(
+                        "plan-event", 1, Instant.now(), "Service Unavailable"
+                )),
+                new PlanCase("ThesisCommentRepository.searchComments", Set.of(), () -> thesisCommentRepository.searchComments(
+                        thesis, ThesisCommentType.THESIS, PageRequest.of(0, 50)
+                )),
+                new PlanCase("ThesisCommentRepository.findCommentsWithFile", Set.of(), () -> thesisCommentRepository.findCommentsWithFile(thesis)),
+                new PlanCase("ThesisCommentRepository.scrollComments", Set.of(), () -> thesisCommentRepository.scrollComments(
+                        thesis, ThesisCommentType.THESIS, Instant.now(), seededId("comment-1"), PageRequest.of(0, 50)
+                )),
+                new PlanCase("ThesisPresentationRepository.findFuturePresentations", Set.of(), () -> thesisPresentationRepository.findFuturePresentations(
+                        Instant.now(), null, null, PageRequest.of(0, 50)
+                )),
+                new PlanCase("ThesisPresentationRepository.findCalendarPresentations", Set.of(), () -> thesisPresentationRepository.findCalendarPresentations(
+                        null, Instant.now().minus(Duration.ofDays(7)), Instant.now()
+                )),
+                new PlanCase("ThesisPresentationInviteRepository.findCalendarAttendees", Set.of(), () -> thesisPresentationInviteRepository.findCalendarAttendees(
+                        List.of(seededId("presentation-1"), seededId("presentation-2"))
+                )),
+                new PlanCase("ThesisRoleRepository.findCalendarAttendees", Set.of(), () -> thesisRoleRepository.findCalendarAttendees(
+                        List.of(seededId("thesis-1"), thesis)
+                )),
+                new PlanCase("ThesisRepository.searchTheses", Set.of(), () -> thesisRepository.searchTheses(
+                        student, allVisibilities, null, null, null, null,
+                        PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "created_at"))
+                )),
+                new PlanCase("ThesisRepository.searchTheses", Set.of(), () -> thesisRepository.searchTheses(
+                        null, null, "4242", "4242:*", null, null,
+                        PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "created_at"))
+                )),
+                new PlanCase("ThesisRepository.scrollTheses", Set.of(), () -> thesisRepository.scrollTheses(
+                        student, allVisibilities, null, null, null, null, Instant.now(), seededId("thesis-1"), false,
+                        PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "created_at", "thesis_id"))
+                )),
+                new PlanCase("ThesisRepository.fetchRolesByThesisIds", Set.of(), () -> thesisRepository.fetchRolesByThesisIds(
+                        List.of(seededId("thesis-1"), thesis)
+                )),
+                new PlanCase("ThesisRepository.findExportThesisIds", Set.of(), () -> thesisRepository.findExportThesisIds(
+                        Set.of(ThesisState.FINISHED), Instant.now().plus(Duration.ofDays(30)), Instant.now().plus(Duration.ofDays(60))
+                )),
+                new PlanCase("ThesisRepository.findActiveDashboardTheses", Set.of(), () -> thesisRepository.findActiveDashboardTheses(advisor)),
+                new PlanCase("TopicRepository.searchTopics", Set.of(), () -> topicRepository.searchTopics(
+                        null, true, "topic", PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "created_at"))
+                )),
+                new PlanCase("TopicRepository.countOpenTopics", Set.of(), () -> topicRepository.countOpenTopics()),
+                // recounting references has to look at every stored filename
+                new PlanCase("UploadReferenceRepository.refreshReferenceCounts", LARGE_TABLES, () -> uploadReferenceRepository.refreshReferenceCounts()),
+                new PlanCase("UploadReferenceRepository.findReferencedFilenames", Set.of(), () -> uploadReferenceRepository.findReferencedFilenames()),
+                new PlanCase("UserRepository.searchUsers", Set.of(), () -> userRepository.searchUsers(
+                        "first4242 last4242", null, PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "joinedAt"))
+                )),
+                new PlanCase("UserRepository.scrollUsers", Set.of(), () -> userRepository.scrollUsers(
+                        "first4242 last4242", null, Instant.now(), seededId("user-1"), false,
+                        PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "joinedAt", "id"))
+                )),
+                new PlanCase("UserRepository.findAllWithNotificationSettingsByIds", Set.of(), () -> userRepository.findAllWithNotificationSettingsByIds(
+                        List.of(seededId("user-1"), seededId("user-2"))
+                )),
+                new PlanCase("UserRepository.getRoleMembers", Set.of(), () -> userRepository.getRoleMembers(Set.of("admin"))),
+                new PlanCase("UserRepository.getNotificationEmails", Set.of(), () -> userRepository.getNotificationEmails(
+                        Set.of("supervisor"), "new-applications"
+                ))
+        );
+    }
+
+    private JsonNode explain(RecordedStatement statement) throws Exception {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())
+        ) {
+            for (Binding binding : statement.bindings()) {
+                binding.method().invoke(explain, binding.arguments());
+            }
+
+            try (ResultSet result = explain.executeQuery()) {
+                assertTrue(result.next());
+
+                return objectMapper.readTree(result.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    private List<String> findSequentialScans(JsonNode plan) {
+        List<String> tables = new ArrayList<>();
+
+        if ("Seq Scan".equals(plan.path("Node Type").asText())) {
+            tables.add(plan.path("Relation Name").asText());
+        }
+
+        for (JsonNode child : plan.path("Plans")) {
+            tables.addAll(findSequentialScans(child));
+        }
+
+        return tables;
+    }
+
+    // mirrors postgres' md5(key)::UUID that the seed data uses for ids
+    private static UUID seededId(String key) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8)));
+
+            return new UUID(digest.getLong(), digest.getLong());
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfiguration {
+        @Bean
+        static BeanPostProcessor statementRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource target && !(bean instanceof StatementRecorder)) {
+                        return new StatementRecorder(target);
+                    }
+
+                    return bean;
+                }
+            };
+        }
+    }
+
+    // captures the sql and parameters hibernate prepares so that the exact statements can be explained afterwards
+    static class StatementRecorder extends DelegatingDataSource {
+        private static List<RecordedStatement> recordedStatements;
+
+        StatementRecorder(DataSource target) {
+            super(target);
+        }
+
+        static synchronized List<RecordedStatement> record(Runnable invocation) {
+            recordedStatements = Collections.synchronizedList(new ArrayList<>());
+
+            try {
+                invocation.run();
+
+                return List.copyOf(recordedStatements);
+            } finally {
+                recordedStatements = null;
+            }
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+
+        private static Connection wrapConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, arguments) -> {
+                        Object result = invoke(connection, method, arguments);
+                        List<RecordedStatement> statements = recordedStatements;
+
+                        if (statements != null && result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            RecordedStatement recorded = new RecordedStatement((String) arguments[0], new ArrayList<>());
+                            statements.add(recorded);
+
+                            return wrapStatement(statement, recorded);
+                        }
+
+                        return result;
+                    }
+            );
+        }
+
+        private static PreparedStatement wrapStatement(PreparedStatement statement, RecordedStatement recorded) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, arguments) -> {
+                        if (method.getName().startsWith("set") && arguments != null && arguments.length >= 2 && arguments[0] instanceof Integer) {
+                            recorded.bindings().add(new Binding(method, arguments));
+                        }
+
+                        return invoke(statement, method, arguments);
+                    }
+            );
+        }
+
+        private static Object invoke(Object target, Method method, Object[] arguments) throws Throwable {
+            try {
+                return method.invoke(target, arguments);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package de.tum.cit.aet.thesis.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+public class UserSearchIndexTest extends BaseIntegrationTest {
+    private static final int SEEDED_USERS = 100_000;
+
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seedUsers() {
+        jdbcTemplate.update(
+                "INSERT INTO users (user_id, university_id, matriculation_number, email, first_name, last_name, updated_at, joined_at) " +
+                "SELECT gen_random_uuid(), 'seed' || i, LPAD(i::TEXT, 8, '0'), 'seed' || i || '@example.com', " +
+                "'First' || i, 'Last' || i, NOW(), NOW() FROM generate_series(1, ?) i",
+                SEEDED_USERS
+        );
+        jdbcTemplate.execute("ANALYZE users");
+    }
+
+    @AfterEach
+    void deleteSeededUsers() {
+        // removed in bulk because the generic cleanup deletes users one by one
+        jdbcTemplate.update("DELETE FROM users WHERE university_id LIKE 'seed%'");
+    }
+
+    @Test
+    void searchText_WithSubstringQuery_UsesTrigramIndex() {
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT u.user_id FROM users u WHERE u.search_text LIKE CONCAT('%', ?, '%')",
+                String.class,
+                "seed4242@"
+        );
+
+        assertTrue(
+                plan.stream().anyMatch(line -> line.contains("idx_users_search_text")),
+                String.join("\n", plan)
+        );
+    }
+
+    @Test
+    void searchUsers_WithFullName_FindsUser() {
+        Page<User> users = userRepository.searchUsers("first4242 last4242", null, PageRequest.of(0, 10));
+
+        assertEquals(1, users.getTotalElements());
+        assertEquals("seed4242", users.getContent().getFirst().getUniversityId());
+    }
+
+    @Test
+    void searchUsers_WithMatriculationNumber_FindsUser() {
+        Page<User> users = userRepository.searchUsers("00004242", null, PageRequest.of(0, 10));
+
+        assertEquals(1, users.getTotalElements());
+        assertEquals("seed4242", users.getContent().getFirst().getUniversityId());
+    }
+}
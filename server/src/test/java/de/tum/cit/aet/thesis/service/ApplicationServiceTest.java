@@ -19,12 +19,14 @@ import de.tum.cit.aet.thesis.mock.EntityMockFactory;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.ApplicationReviewerRepository;
 import de.tum.cit.aet.thesis.repository.TopicRepository;
+import de.tum.cit.aet.thesis.repository.projection.ApplicationTopicProjection;
 
 import java.time.Instant;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +43,10 @@ class ApplicationServiceTest {
     private TopicService topicService;
     @Mock
     private ApplicationReviewerRepository applicationReviewerRepository;
+    @Mock
+    private ResponseCacheService responseCacheService;
+    @Mock
+    private DashboardService dashboardService;
 
     private ApplicationService applicationService;
     private User testUser;
@@ -55,7 +61,9 @@ class ApplicationServiceTest {
                 topicRepository,
                 thesisService,
                 topicService,
-                applicationReviewerRepository
+                applicationReviewerRepository,
+                responseCacheService,
+                dashboardService
         );
 
         testUser = EntityMockFactory.createUser("Test");
@@ -92,6 +100,19 @@ class ApplicationServiceTest {
         );
     }
 
+    @Test
+    void getTopicTitles_WithTopicApplication_OnlyLoadsTopicTitles() {
+        ApplicationTopicProjection topic = mock(ApplicationTopicProjection.class);
+        when(topic.getApplicationId()).thenReturn(testApplication.getId());
+        when(topic.getTopicTitle()).thenReturn("Test Topic");
+        when(applicationRepository.findTopicTitlesByApplicationIds(List.of(testApplication.getId()))).thenReturn(List.of(topic));
+
+        Map<UUID, String> result = applicationService.getTopicTitles(new PageImpl<>(List.of(testApplication)));
+
+        assertEquals(Map.of(testApplication.getId(), "Test Topic"), result);
+        verify(applicationRepository, never()).fetchTopicsByApplicationIds(any());
+    }
+
     @Test
     void createApplication_WithValidData_CreatesApplication() {
         when(topicService.findById(testTopic.getId())).thenReturn(testTopic);
@@ -194,9 +215,10 @@ class ApplicationServiceTest {
     void closeTopic_WithValidData_ClosesTopicAndRejectsApplications() {
         User closer = new User();
         closer.setId(UUID.randomUUID());
-        List<Application> apllicationList = Arrays.asList(testApplication);
-        when(applicationRepository.findAllByTopic(testTopic)).thenReturn(apllicationList);
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        testApplication.setTopic(testTopic);
+        List<UUID> applicationIds = List.of(testApplication.getId());
+        when(applicationRepository.findPendingApplicationIdsByTopic(testTopic.getId(), false)).thenReturn(applicationIds);
+        when(applicationRepository.findAllWithReviewersByIds(applicationIds)).thenReturn(List.of(testApplication));
         when(topicRepository.save(any(Topic.class))).thenReturn(testTopic);
 
         Topic result = applicationService.closeTopic(
@@ -209,7 +231,102 @@ class ApplicationServiceTest {
         assertNotNull(result);
         assertNotNull(result.getClosedAt());
         verify(topicRepository).save(testTopic);
-        verify(applicationRepository).findAllByTopic(testTopic);
+        verify(applicationRepository).rejectApplications(eq(applicationIds), eq(ApplicationRejectReason.TOPIC_FILLED), any());
+        verify(applicationReviewerRepository).upsertReviews(eq(applicationIds), eq(closer.getId()), eq("NOT_INTERESTED"), any());
+        verify(mailingService).sendApplicationRejectionEmails(List.of(testApplication), ApplicationRejectReason.TOPIC_FILLED);
+        verify(applicationRepository, never()).save(any(Application.class));
+    }
+
+    @Test
+    void rejectApplications_WithFailedRequirements_RejectsPendingApplicationsOfApplicants() {
+        User reviewer = EntityMockFactory.createUser("Reviewer");
+        Application otherApplication = EntityMockFactory.createApplication();
+        Set<UUID> selectedIds = Set.of(testApplication.getId());
+        List<UUID> pendingIds = List.of(testApplication.getId(), otherApplication.getId());
+        when(applicationRepository.findPendingApplicationIds(selectedIds, true)).thenReturn(pendingIds);
+        when(applicationRepository.findAllWithReviewersByIds(pendingIds)).thenReturn(List.of(testApplication, otherApplication));
+
+        List<Application> results = applicationService.rejectApplications(
+                reviewer,
+                selectedIds,
+                ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS,
+                false
+        );
+
+        assertEquals(2, results.size());
+        verify(applicationRepository).rejectApplications(eq(pendingIds), eq(ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS), any());
+        verify(applicationReviewerRepository).upsertReviews(eq(pendingIds), eq(reviewer.getId()), eq("NOT_INTERESTED"), any());
+        verifyNoInteractions(mailingService);
+    }
+
+    @Test
+    void rejectApplications_WithFailedRequirementsAndNotification_MailsOnlySelectedApplications() {
+        User reviewer = EntityMockFactory.createUser("Reviewer");
+        Application otherApplication = EntityMockFactory.createApplication();
+        Set<UUID> selectedIds = Set.of(testApplication.getId());
+        List<UUID> pendingIds = List.of(testApplication.getId(), otherApplication.getId());
+        when(applicationRepository.findPendingApplicationIds(selectedIds, true)).thenReturn(pendingIds);
+        when(applicationRepository.findAllWithReviewersByIds(pendingIds)).thenReturn(List.of(testApplication, otherApplication));
+
+        List<Application> results = applicationService.rejectApplications(
+                reviewer,
+                selectedIds,
+                ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS,
+                true
+        );
+
+        assertEquals(2, results.size());
+        verify(mailingService).sendApplicationRejectionEmails(List.of(testApplication), ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS);
+    }
+
+    @Test
+    void closeTopic_WithFailedRequirements_MailsOnlyTopicApplications() {
+        User closer = EntityMockFactory.createUser("Closer");
+        Application otherApplication = EntityMockFactory.createApplication();
+        testApplication.setTopic(testTopic);
+        List<UUID> pendingIds = List.of(testApplication.getId(), otherApplication.getId());
+        when(applicationRepository.findPendingApplicationIdsByTopic(testTopic.getId(), true)).thenReturn(pendingIds);
+        when(applicationRepository.findAllWithReviewersByIds(pendingIds)).thenReturn(List.of(testApplication, otherApplication));
+
+        applicationService.closeTopic(closer, testTopic, ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS, true);
+
+        verify(mailingService).sendApplicationRejectionEmails(List.of(testApplication), ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS);
+    }
+
+    @Test
+    void rejectApplications_WithoutPendingApplications_SkipsUpdates() {
+        User reviewer = EntityMockFactory.createUser("Reviewer");
+        Set<UUID> selectedIds = Set.of(testApplication.getId());
+        when(applicationRepository.findPendingApplicationIds(selectedIds, false)).thenReturn(List.of());
+
+        List<Application> results = applicationService.rejectApplications(reviewer, selectedIds, ApplicationRejectReason.TOPIC_FILLED, true);
+
+        assertTrue(results.isEmpty());
+        verify(applicationRepository, never()).rejectApplications(any(), any(), any());
+        verifyNoInteractions(applicationReviewerRepository, mailingService);
+    }
+
+    @Test
+    void reviewApplications_WithNotReviewed_DeletesReviews() {
+        User reviewer = EntityMockFactory.createUser("Reviewer");
+        Set<UUID> applicationIds = Set.of(testApplication.getId());
+        when(applicationRepository.findAllWithReviewersByIds(applicationIds)).thenReturn(List.of(testApplication));
+
+        List<Application> results = applicationService.reviewApplications(reviewer, applicationIds, ApplicationReviewReason.NOT_REVIEWED);
+
+        assertEquals(List.of(testApplication), results);
+        verify(applicationReviewerRepository).deleteReviews(applicationIds, reviewer.getId());
+        verify(applicationReviewerRepository, never()).upsertReviews(any(), any(), any(), any());
+    }
+
+    @Test
+    void reviewApplications_WithInterested_UpsertsReviews() {
+        User reviewer = EntityMockFactory.createUser("Reviewer");
+        Set<UUID> applicationIds = Set.of(testApplication.getId());
+
+        applicationService.reviewApplications(reviewer, applicationIds, ApplicationReviewReason.INTERESTED);
+
+        verify(applicationReviewerRepository).upsertReviews(eq(applicationIds), eq(reviewer.getId()), eq("INTERESTED"), any());
     }
 
     @Test
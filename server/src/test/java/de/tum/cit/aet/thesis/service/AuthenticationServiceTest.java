@@ -1,5 +1,7 @@
 package de.tum.cit.aet.thesis.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +13,8 @@ import de.tum.cit.aet.thesis.constants.UploadFileType;
 import de.tum.cit.aet.thesis.entity.NotificationSetting;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.entity.key.NotificationSettingId;
+import de.tum.cit.aet.thesis.exception.UploadException;
+import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.mock.EntityMockFactory;
 import de.tum.cit.aet.thesis.repository.NotificationSettingRepository;
 import de.tum.cit.aet.thesis.repository.UserGroupRepository;
@@ -37,6 +41,12 @@ class AuthenticationServiceTest {
     @Mock
     private NotificationSettingRepository notificationSettingRepository;
 
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    @Mock
+    private EntityManager entityManager;
+
     @Mock
     private JwtAuthenticationToken jwtToken;
 
@@ -50,10 +60,50 @@ class AuthenticationServiceTest {
                 userRepository,
                 userGroupRepository,
                 uploadService,
-                notificationSettingRepository
+                notificationSettingRepository,
+                entityCacheService,
+                entityManager,
+                new SimpleMeterRegistry()
         );
 
         testUser = EntityMockFactory.createUser("Test");
+        testUser.setUniversityId("ab12cde");
+    }
+
+    @Test
+    void getAuthenticatedUser_WithRepeatedCalls_LoadsUserOnce() {
+        when(jwtToken.getName()).thenReturn("ab12cde");
+        when(userRepository.findByUniversityId("ab12cde")).thenReturn(Optional.of(testUser));
+
+        assertSame(testUser, authenticationService.getAuthenticatedUser(jwtToken));
+        assertSame(testUser, authenticationService.getAuthenticatedUser(jwtToken));
+
+        verify(userRepository, times(1)).findByUniversityId("ab12cde");
+        verify(entityManager).detach(testUser);
+    }
+
+    @Test
+    void getAuthenticatedUser_WithUnknownUser_ThrowsException() {
+        when(jwtToken.getName()).thenReturn("unknown");
+        when(userRepository.findByUniversityId("unknown")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> authenticationService.getAuthenticatedUser(jwtToken));
+    }
+
+    @Test
+    void getAuthenticatedUser_AfterNotificationSettingsUpdate_ReloadsUser() {
+        testUser.setNotificationSettings(new ArrayList<>());
+
+        when(jwtToken.getName()).thenReturn("ab12cde");
+        when(userRepository.findByUniversityId("ab12cde")).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(notificationSettingRepository.save(any(NotificationSetting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        authenticationService.getAuthenticatedUser(jwtToken);
+        authenticationService.updateNotificationSettings(testUser, "new-notification", "none");
+        authenticationService.getAuthenticatedUser(jwtToken);
+
+        verify(userRepository, times(2)).findByUniversityId("ab12cde");
     }
 
     @Test
@@ -65,6 +115,7 @@ class AuthenticationServiceTest {
                 "test".getBytes()
         );
 
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(uploadService.store(any(), any(), any(UploadFileType.class))).thenReturn("stored-file");
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -94,6 +145,53 @@ class AuthenticationServiceTest {
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    void updateUserInformation_WithFailingUpload_KeepsCachedUser() {
+        User storedUser = EntityMockFactory.createUser("Test");
+        storedUser.setId(testUser.getId());
+        storedUser.setUniversityId("ab12cde");
+
+        MockMultipartFile cv = new MockMultipartFile(
+                "cv",
+                "cv.pdf",
+                "application/pdf",
+                "test".getBytes()
+        );
+
+        when(jwtToken.getName()).thenReturn("ab12cde");
+        when(userRepository.findByUniversityId("ab12cde")).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(storedUser));
+        when(uploadService.store(any(), any(), any(UploadFileType.class))).thenThrow(new UploadException("File type not allowed"));
+
+        User cachedUser = authenticationService.getAuthenticatedUser(jwtToken);
+
+        assertThrows(UploadException.class, () -> authenticationService.updateUserInformation(
+                cachedUser,
+                "M12345",
+                "Updated",
+                "User",
+                "Male",
+                "German",
+                "updated@test.com",
+                "Bachelor",
+                "Computer Science",
+                Instant.now(),
+                "Java",
+                "AI",
+                "Thesis Management",
+                Map.of("key", "value"),
+                null,
+                null,
+                cv,
+                null
+        ));
+
+        assertSame(cachedUser, authenticationService.getAuthenticatedUser(jwtToken));
+        assertEquals("Test", cachedUser.getFirstName());
+        assertNull(cachedUser.getMatriculationNumber());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
     @Test
     void getNotificationSettings_ReturnsSettings() {
         List<NotificationSetting> settings = new ArrayList<>();
@@ -117,6 +215,7 @@ class AuthenticationServiceTest {
         String email = "yes";
         testUser.setNotificationSettings(new ArrayList<>());
 
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(notificationSettingRepository.save(any(NotificationSetting.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         List<NotificationSetting> result = authenticationService.updateNotificationSettings(
@@ -135,6 +234,7 @@ class AuthenticationServiceTest {
         String settingName = "existing-notification";
         String email = "yes";
 
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
         when(notificationSettingRepository.save(any(NotificationSetting.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         List<NotificationSetting> result = authenticationService.updateNotificationSettings(
@@ -147,5 +247,6 @@ class AuthenticationServiceTest {
         assertEquals(1, result.size());
         assertEquals(email, result.getFirst().getEmail());
         verify(notificationSettingRepository).save(any(NotificationSetting.class));
+        verify(entityCacheService).evictUser(testUser.getId());
     }
 }
\ No newline at end of file
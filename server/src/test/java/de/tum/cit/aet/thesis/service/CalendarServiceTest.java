@@ -0,0 +1,493 @@
+package de.tum.cit.aet.thesis.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.InternetAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import de.tum.cit.aet.thesis.entity.CalendarOutboxEntry;
+import de.tum.cit.aet.thesis.repository.CalendarOutboxRepository;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CalendarServiceTest {
+    private static final String LEGACY_CALENDAR = String.join("\r\n",
+            "BEGIN:VCALENDAR",
+            "PRODID:-//Thesis Management//Thesis Presentations//EN",
+            "VERSION:2.0",
+            "BEGIN:VEVENT",
+            "DTSTAMP:20250101T000000Z",
+            "DTSTART:20300101T100000Z",
+            "DTEND:20300101T104500Z",
+            "SUMMARY:Legacy Presentation",
+            "UID:legacy-event",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "DTSTAMP:20250101T000000Z",
+            "DTSTART:20300102T100000Z",
+            "DTEND:20300102T104500Z",
+            "SUMMARY:Outdated Presentation",
+            "UID:updated-event",
+            "END:VEVENT",
+            "END:VCALENDAR",
+            ""
+    );
+
+    private record StubRequest(String method, String path, String ifMatch, String ifNoneMatch, String body) {}
+
+    private HttpServer server;
+    private final List<StubRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, String> resources = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, String> eTags = Collections.synchronizedMap(new HashMap<>());
+    private final AtomicInteger eTagCounter = new AtomicInteger();
+    private final AtomicBoolean unavailable = new AtomicBoolean();
+    private Runnable onPut = () -> {};
+
+    // behaves like the upserts and conditional updates of the calendar_outbox table
+    private final Map<String, CalendarOutboxEntry> outbox = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final AtomicInteger triggeredProcessing = new AtomicInteger();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CalendarOutboxRepository calendarOutboxRepository;
+    private CalendarService calendarService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+
+            requests.add(new StubRequest(exchange.getRequestMethod(), path, exchange.getRequestHeaders().getFirst("If-Match"), ifNoneMatch, body));
+
+
+            String ifMatch = exchange.getRequestHeaders().getFirst("If-Match");
+            boolean preconditionFailed = ("*".equals(ifNoneMatch) && resources.containsKey(path)) ||
+                    (ifMatch != null && !ifMatch.equals(eTags.get(path)));
+
+            if (unavailable.get()) {
+                exchange.sendResponseHeaders(503, -1);
+            } else if (exchange.getRequestMethod().equals("GET")) {
+                byte[] resource = resources.getOrDefault(path, "").getBytes(StandardCharsets.UTF_8);
+
+                if (resources.containsKey(path)) {
+                    if (eTags.containsKey(path)) {
+                        exchange.getResponseHeaders().add("ETag", eTags.get(path));
+                    }
+
+                    exchange.sendResponseHeaders(200, resource.length);
+                    exchange.getResponseBody().write(resource);
+                } else {
+                    exchange.sendResponseHeaders(404, -1);
+                }
+            } else if (preconditionFailed) {
+                exchange.sendResponseHeaders(412, -1);
+            } else if (exchange.getRequestMethod().equals("PUT")) {
+                onPut.run();
+
+                String eTag = "\"" + eTagCounter.incrementAndGet() + "\"";
+
+                resources.put(path, body);
+                eTags.put(path, eTag);
+
+                exchange.getResponseHeaders().add("ETag", eTag);
+                exchange.sendResponseHeaders(201, -1);
+            } else if (exchange.getRequestMethod().equals("DELETE")) {
+                eTags.remove(path);
+                exchange.sendResponseHeaders(resources.remove(path) == null ? 404 : 204, -1);
+            } else {
+                exchange.sendResponseHeaders(405, -1);
+            }
+
+            exchange.close();
+        });
+        server.start();
+
+        calendarOutboxRepository = createCalendarOutboxRepository();
+        calendarService = createCalendarService(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void createEvent_PutsSingleEventResource() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        assertEquals(1, requests.size());
+        assertEquals("PUT", requests.getFirst().method());
+        assertEquals("/calendar/" + eventId + ".ics", requests.getFirst().path());
+        assertNull(requests.getFirst().ifMatch());
+        assertEquals("*", requests.getFirst().ifNoneMatch());
+        assertTrue(requests.getFirst().body().contains("UID:" + eventId));
+        assertTrue(requests.getFirst().body().contains("SUMMARY:Presentation"));
+        assertTrue(requests.getFirst().body().contains("DTSTAMP:"));
+        assertEquals(1, meterRegistry.get("outbound_requests").tags("target", "caldav", "method", "PUT").timer().count());
+
+        assertEquals("\"1\"", outbox.get(eventId).getEtag());
+        assertNull(outbox.get(eventId).getNextAttemptAt());
+    }
+
+    @Test
+    void createEvent_InTransaction_TriggersProcessingAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            calendarService.createEvent(createEvent("Presentation"));
+
+            assertEquals(0, triggeredProcessing.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            assertEquals(1, triggeredProcessing.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void updateEvent_WithMultipleChanges_SendsLatestChangeWithETag() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        calendarService.updateEvent(eventId, createEvent("First Update"));
+        calendarService.updateEvent(eventId, createEvent("Second Update"));
+        calendarService.processOutbox();
+
+        assertEquals(2, requests.size());
+        assertEquals("\"1\"", requests.getLast().ifMatch());
+        assertTrue(requests.getLast().body().contains("SUMMARY:Second Update"));
+    }
+
+    @Test
+    void updateEvent_WithUnchangedData_SkipsRequest() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        calendarService.updateEvent(eventId, createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        assertEquals(1, requests.size());
+        assertEquals(1, triggeredProcessing.get());
+    }
+
+    @Test
+    void updateEvent_WithRemoteModification_AppliesChangeOnRemoteEvent() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        String path = "/calendar/" + eventId + ".ics";
+        resources.put(path, resources.get(path).replace("SUMMARY:Presentation", "SUMMARY:Remote Title\r\nCATEGORIES:Remote"));
+        eTags.put(path, "\"remote\"");
+
+        calendarService.updateEvent(eventId, createEvent("Updated Presentation"));
+        calendarService.processOutbox();
+
+        assertEquals(
+                List.of("PUT", "PUT", "GET", "PUT"),
+                requests.stream().map(StubRequest::method).toList()
+        );
+        assertEquals("\"1\"", requests.get(1).ifMatch());
+        assertEquals("\"remote\"", requests.getLast().ifMatch());
+        assertTrue(resources.get(path).contains("SUMMARY:Updated Presentation"));
+        assertTrue(resources.get(path).contains("CATEGORIES:Remote"));
+        assertFalse(resources.get(path).contains("Remote Title"));
+        assertEquals(eTags.get(path), outbox.get(eventId).getEtag());
+    }
+
+    @Test
+    void updateEvent_WhileSynchronizing_KeepsNewerChangePending() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        onPut = () -> {
+            onPut = () -> {};
+            calendarService.updateEvent(eventId, createEvent("Updated Presentation"));
+        };
+
+        calendarService.processOutbox();
+
+        assertEquals("\"1\"", outbox.get(eventId).getEtag());
+        assertNotNull(outbox.get(eventId).getNextAttemptAt());
+
+        calendarService.processOutbox();
+
+        assertEquals(2, requests.size());
+        assertEquals("\"1\"", requests.getLast().ifMatch());
+        assertTrue(requests.getLast().body().contains("SUMMARY:Updated Presentation"));
+        assertNull(outbox.get(eventId).getNextAttemptAt());
+    }
+
+    @Test
+    void processOutbox_WithUnavailableServer_RetriesLater() {
+        unavailable.set(true);
+
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        CalendarOutboxEntry entry = outbox.get(eventId);
+
+        assertEquals(1, entry.getAttempts());
+        assertTrue(entry.getNextAttemptAt().isAfter(Instant.now()));
+        assertNotNull(entry.getLastError());
+
+        unavailable.set(false);
+        calendarService.processOutbox();
+
+        assertEquals(1, requests.size());
+
+        entry.setNextAttemptAt(Instant.now());
+        calendarService.processOutbox();
+
+        assertTrue(resources.containsKey("/calendar/" + eventId + ".ics"));
+        assertNull(outbox.get(eventId).getNextAttemptAt());
+    }
+
+    @Test
+    void deleteEvent_DeletesEventResourceWithETag() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        calendarService.deleteEvent(eventId);
+        calendarService.processOutbox();
+
+        assertEquals(2, requests.size());
+        assertEquals("DELETE", requests.getLast().method());
+        assertEquals("\"1\"", requests.getLast().ifMatch());
+        assertTrue(resources.isEmpty());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void deleteEvent_WithRemoteModification_DeletesEventResource() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        eTags.put("/calendar/" + eventId + ".ics", "\"remote\"");
+
+        calendarService.deleteEvent(eventId);
+        calendarService.processOutbox();
+
+        assertEquals(
+                List.of("PUT", "DELETE", "GET", "DELETE"),
+                requests.stream().map(StubRequest::method).toList()
+        );
+        assertEquals("\"remote\"", requests.getLast().ifMatch());
+        assertTrue(resources.isEmpty());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void createEvent_WithDeleteBeforeSync_OnlyDeletes() {
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.deleteEvent(eventId);
+        calendarService.processOutbox();
+
+        assertEquals(1, requests.size());
+        assertEquals("DELETE", requests.getFirst().method());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void processOutbox_WithLegacyCalendar_MovesEventsBeforeChanges() {
+        resources.put("/legacy.ics", LEGACY_CALENDAR);
+        resources.put("/calendar/updated-event.ics", "BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+
+        calendarService = createCalendarService("/legacy.ics");
+
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        assertEquals(
+                List.of("GET /legacy.ics", "PUT /calendar/legacy-event.ics", "PUT /calendar/updated-event.ics", "DELETE /legacy.ics", "PUT /calendar/" + eventId + ".ics"),
+                requests.stream().map(request -> request.method() + " " + request.path()).toList()
+        );
+        assertEquals("*", requests.get(1).ifNoneMatch());
+        assertTrue(resources.get("/calendar/legacy-event.ics").contains("UID:legacy-event"));
+        assertTrue(resources.get("/calendar/legacy-event.ics").contains("SUMMARY:Legacy Presentation"));
+        assertFalse(resources.get("/calendar/updated-event.ics").contains("Outdated Presentation"));
+        assertFalse(resources.containsKey("/legacy.ics"));
+
+        calendarService.updateEvent(eventId, createEvent("Updated Presentation"));
+        calendarService.processOutbox();
+
+        assertEquals(6, requests.size());
+        assertEquals("PUT", requests.getLast().method());
+    }
+
+    @Test
+    void processOutbox_WithUnavailableLegacyCalendar_PostponesChanges() {
+        resources.put("/legacy.ics", LEGACY_CALENDAR);
+        unavailable.set(true);
+
+        calendarService = createCalendarService("/legacy.ics");
+
+        String eventId = calendarService.createEvent(createEvent("Presentation"));
+        calendarService.processOutbox();
+
+        assertEquals(List.of("GET"), requests.stream().map(StubRequest::method).toList());
+        assertEquals(0, outbox.get(eventId).getAttempts());
+
+        unavailable.set(false);
+        calendarService.processOutbox();
+
+        assertTrue(resources.containsKey("/calendar/legacy-event.ics"));
+        assertTrue(resources.containsKey("/calendar/" + eventId + ".ics"));
+        assertFalse(resources.containsKey("/legacy.ics"));
+    }
+
+    private CalendarService createCalendarService(String legacyPath) {
+        String serverUrl = "http://localhost:" + server.getAddress().getPort();
+
+        return new CalendarService(
+                true,
+                serverUrl + "/calendar",
+                legacyPath == null ? "" : serverUrl + legacyPath,
+                "user",
+                "password",
+                calendarOutboxRepository,
+                mock(PlatformTransactionManager.class),
+                task -> triggeredProcessing.incrementAndGet(),
+                meterRegistry
+        );
+    }
+
+    private CalendarOutboxRepository createCalendarOutboxRepository() {
+        CalendarOutboxRepository repository = mock(CalendarOutboxRepository.class);
+
+        when(repository.upsertEvent(anyString(), anyString(), any())).thenAnswer(invocation ->
+                upsertEntry(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))
+        );
+        when(repository.upsertDeletion(anyString(), any())).thenAnswer(invocation ->
+                upsertEntry(invocation.getArgument(0), null, invocation.getArgument(1))
+        );
+        when(repository.findDueEntries(any(), any())).thenAnswer(invocation -> {
+            Instant now = invocation.getArgument(0);
+
+            synchronized (outbox) {
+                return outbox.values().stream()
+                        .filter(entry -> entry.getNextAttemptAt() != null && !entry.getNextAttemptAt().isAfter(now))
+                        .map(this::copyEntry)
+                        .toList();
+            }
+        });
+        when(repository.saveAll(any())).thenAnswer(invocation -> {
+            List<CalendarOutboxEntry> entries = invocation.getArgument(0);
+
+            entries.forEach(entry -> outbox.put(entry.getEventId(), copyEntry(entry)));
+
+            return entries;
+        });
+        when(repository.markSynchronized(anyString(), anyLong(), any())).thenAnswer(invocation ->
+                updateEntry(invocation.getArgument(0), invocation.getArgument(1), entry -> {
+                    entry.setEtag(invocation.getArgument(2));
+                    entry.setAttempts(0);
+                    entry.setNextAttemptAt(null);
+                    entry.setLastError(null);
+                })
+        );
+        when(repository.updateEtag(anyString(), any())).thenAnswer(invocation ->
+                updateEntry(invocation.getArgument(0), null, entry -> entry.setEtag(invocation.getArgument(1)))
+        );
+        when(repository.deleteSynchronized(anyString(), anyLong())).thenAnswer(invocation ->
+                updateEntry(invocation.getArgument(0), invocation.getArgument(1), entry -> outbox.remove(entry.getEventId()))
+        );
+        when(repository.scheduleRetry(anyString(), anyLong(), any(), any())).thenAnswer(invocation ->
+                updateEntry(invocation.getArgument(0), invocation.getArgument(1), entry -> {
+                    entry.setNextAttemptAt(invocation.getArgument(2));
+                    entry.setLastError(invocation.getArgument(3));
+                })
+        );
+
+        return repository;
+    }
+
+    private int upsertEntry(String eventId, String content, Instant now) {
+        synchronized (outbox) {
+            CalendarOutboxEntry entry = outbox.get(eventId);
+
+            if (entry != null && Objects.equals(entry.getContent(), content)) {
+                return 0;
+            }
+
+            if (entry == null) {
+                entry = new CalendarOutboxEntry();
+                entry.setEventId(eventId);
+                entry.setRevision(0L);
+
+                outbox.put(eventId, entry);
+            }
+
+            entry.setContent(content);
+            entry.setRevision(entry.getRevision() + 1);
+            entry.setAttempts(0);
+            entry.setNextAttemptAt(now);
+            entry.setLastError(null);
+            entry.setUpdatedAt(now);
+
+            return 1;
+        }
+    }
+
+    private int updateEntry(String eventId, Long revision, Consumer<CalendarOutboxEntry> update) {
+        synchronized (outbox) {
+            CalendarOutboxEntry entry = outbox.get(eventId);
+
+            if (entry == null || (revision != null && !revision.equals(entry.getRevision()))) {
+                return 0;
+            }
+
+            update.accept(entry);
+
+            return 1;
+        }
+    }
+
+    private CalendarOutboxEntry copyEntry(CalendarOutboxEntry entry) {
+        CalendarOutboxEntry copy = new CalendarOutboxEntry();
+        copy.setEventId(entry.getEventId());
+        copy.setContent(entry.getContent());
+        copy.setEtag(entry.getEtag());
+        copy.setRevision(entry.getRevision());
+        copy.setAttempts(entry.getAttempts());
+        copy.setNextAttemptAt(entry.getNextAttemptAt());
+        copy.setLastError(entry.getLastError());
+        copy.setUpdatedAt(entry.getUpdatedAt());
+
+        return copy;
+    }
+
+    private CalendarService.CalendarEvent createEvent(String title) {
+        try {
+            return new CalendarService.CalendarEvent(
+                    title,
+                    "Room 101",
+                    "Description",
+                    Instant.parse("2030-01-01T10:00:00Z"),
+                    Instant.parse("2030-01-01T10:45:00Z"),
+                    new InternetAddress("organizer@example.com"),
+                    List.of(new InternetAddress("student@example.com")),
+                    List.of()
+            );
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package de.tum.cit.aet.thesis.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.dto.TaskDto;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+import de.tum.cit.aet.thesis.repository.ApplicationRepository;
+import de.tum.cit.aet.thesis.repository.ThesisRepository;
+import de.tum.cit.aet.thesis.repository.TopicRepository;
+import de.tum.cit.aet.thesis.repository.projection.DashboardThesisProjection;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+    @Mock
+    private ThesisRepository thesisRepository;
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private TopicRepository topicRepository;
+
+    private DashboardService dashboardService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(
+                thesisRepository,
+                applicationRepository,
+                topicRepository,
+                "",
+                new SimpleMeterRegistry()
+        );
+
+        testUser = EntityMockFactory.createUser("Test");
+    }
+
+    @Test
+    void getTasks_WithMultipleRolesOnThesis_MergesRolesPerThesis() {
+        UUID thesisId = UUID.randomUUID();
+
+        List<DashboardThesisProjection> theses = List.of(
+                createProjection(thesisId, ThesisState.SUBMITTED, ThesisRoleName.ADVISOR),
+                createProjection(thesisId, ThesisState.SUBMITTED, ThesisRoleName.SUPERVISOR)
+        );
+
+        when(thesisRepository.findActiveDashboardTheses(testUser.getId())).thenReturn(theses);
+
+        List<TaskDto> tasks = dashboardService.getTasks(testUser);
+
+        assertEquals(1, tasks.size());
+        assertEquals("/theses/" + thesisId, tasks.getFirst().link());
+        assertTrue(tasks.getFirst().message().contains("Please review the thesis and add an assessment"));
+    }
+
+    @Test
+    void getTasks_WithRepeatedCalls_QueriesOnceUntilInvalidated() {
+        when(thesisRepository.findActiveDashboardTheses(testUser.getId())).thenReturn(List.of());
+
+        dashboardService.getTasks(testUser);
+        dashboardService.getTasks(testUser);
+
+        verify(thesisRepository, times(1)).findActiveDashboardTheses(testUser.getId());
+
+        dashboardService.invalidateTasks();
+        dashboardService.getTasks(testUser);
+
+        verify(thesisRepository, times(2)).findActiveDashboardTheses(testUser.getId());
+    }
+
+    private DashboardThesisProjection createProjection(UUID thesisId, ThesisState state, ThesisRoleName role) {
+        DashboardThesisProjection projection = mock(DashboardThesisProjection.class);
+
+        lenient().when(projection.getThesisId()).thenReturn(thesisId);
+        lenient().when(projection.getTitle()).thenReturn("Test Thesis");
+        lenient().when(projection.getState()).thenReturn(state);
+        lenient().when(projection.getRole()).thenReturn(role);
+        lenient().when(projection.getStartDate()).thenReturn(Instant.now());
+        lenient().when(projection.getEndDate()).thenReturn(Instant.now().plusSeconds(90 * 24 * 3600));
+        lenient().when(projection.getPresentationCount()).thenReturn(1L);
+
+        return projection;
+    }
+}
@@ -0,0 +1,110 @@
+package de.tum.cit.aet.thesis.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
+import de.tum.cit.aet.thesis.repository.MailOutboxRepository;
+import de.tum.cit.aet.thesis.utility.MailConfig;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+    @Mock
+    private JavaMailSender javaMailSender;
+    @Mock
+    private UploadService uploadService;
+    @Mock
+    private MailConfig mailConfig;
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MailOutboxService mailOutboxService;
+    private MailOutboxEntry testEntry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mailOutboxService = new MailOutboxService(
+                javaMailSender,
+                uploadService,
+                mailConfig,
+                mailOutboxRepository,
+                transactionManager,
+                new SimpleMeterRegistry()
+        );
+
+        testEntry = new MailOutboxEntry();
+        testEntry.setId(UUID.randomUUID());
+        testEntry.setState(MailOutboxState.PENDING);
+        testEntry.setSubject("Test Subject");
+        testEntry.setBody("<p>Test</p>");
+        testEntry.setToAddresses(List.of("student@example.com"));
+        testEntry.setAttempts(0);
+        testEntry.setNextAttemptAt(Instant.now());
+
+        when(mailOutboxRepository.findDueEntries(any(), any())).thenReturn(List.of(testEntry));
+        when(mailOutboxRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mailConfig.isEnabled()).thenReturn(true);
+        when(mailConfig.getSender()).thenReturn(new InternetAddress("sender@example.com"));
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxService.shutdown();
+    }
+
+    @Test
+    void processOutbox_WithDueEntry_SendsAndMarksSent() {
+        int processedEntries = mailOutboxService.processOutbox();
+
+        assertEquals(1, processedEntries);
+        assertEquals(MailOutboxState.SENT, testEntry.getState());
+        assertEquals(1, testEntry.getAttempts());
+        assertNotNull(testEntry.getSentAt());
+        verify(javaMailSender).send(any(MimeMessage.class));
+        verify(mailOutboxRepository).save(testEntry);
+    }
+
+    @Test
+    void processOutbox_WithSendFailure_SchedulesRetry() {
+        doThrow(new MailSendException("SMTP unavailable")).when(javaMailSender).send(any(MimeMessage.class));
+
+        mailOutboxService.processOutbox();
+
+        assertEquals(MailOutboxState.PENDING, testEntry.getState());
+        assertEquals("SMTP unavailable", testEntry.getLastError());
+        assertTrue(testEntry.getNextAttemptAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void processOutbox_WithLastAttemptFailing_MarksFailed() {
+        testEntry.setAttempts(7);
+        doThrow(new MailSendException("SMTP unavailable")).when(javaMailSender).send(any(MimeMessage.class));
+
+        mailOutboxService.processOutbox();
+
+        assertEquals(MailOutboxState.FAILED, testEntry.getState());
+        assertEquals(8, testEntry.getAttempts());
+    }
+}
@@ -0,0 +1,69 @@
+package de.tum.cit.aet.thesis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheServiceTest {
+    private ResponseCacheService responseCacheService;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheService = new ResponseCacheService(new ObjectMapper(), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getResponse_WithReorderedArrayParameters_LoadsOnce() {
+        ResponseEntity<List<String>> first = responseCacheService.getResponse(
+                ResponseCacheService.Section.TOPICS,
+                this::loadTopics,
+                "search", new String[]{"MASTER", "BACHELOR"}, 0
+        );
+        ResponseEntity<List<String>> second = responseCacheService.getResponse(
+                ResponseCacheService.Section.TOPICS,
+                this::loadTopics,
+                "search", new String[]{"BACHELOR", "MASTER", "MASTER"}, 0
+        );
+
+        assertEquals(1, loads.get());
+        assertEquals(List.of("Topic 1"), second.getBody());
+        assertNotNull(first.getHeaders().getETag());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertTrue(first.getHeaders().getCacheControl().contains("public"));
+    }
+
+    @Test
+    void getResponse_WithDifferentParameters_LoadsEach() {
+        responseCacheService.getResponse(ResponseCacheService.Section.TOPICS, this::loadTopics, "search", 0);
+        responseCacheService.getResponse(ResponseCacheService.Section.TOPICS, this::loadTopics, "search", 1);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_ReloadsOnlyInvalidatedSection() {
+        responseCacheService.getResponse(ResponseCacheService.Section.TOPICS, this::loadTopics, 0);
+        responseCacheService.getResponse(ResponseCacheService.Section.PUBLISHED_THESES, this::loadTopics, 0);
+
+        responseCacheService.invalidate(ResponseCacheService.Section.TOPICS);
+
+        ResponseEntity<List<String>> reloaded = responseCacheService.getResponse(ResponseCacheService.Section.TOPICS, this::loadTopics, 0);
+        responseCacheService.getResponse(ResponseCacheService.Section.PUBLISHED_THESES, this::loadTopics, 0);
+
+        assertEquals(3, loads.get());
+        assertEquals(List.of("Topic 3"), reloaded.getBody());
+    }
+
+    private List<String> loadTopics() {
+        return List.of("Topic " + loads.incrementAndGet());
+    }
+}
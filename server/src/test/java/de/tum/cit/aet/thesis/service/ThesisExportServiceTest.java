@@ -0,0 +1,159 @@
+package de.tum.cit.aet.thesis.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import de.tum.cit.aet.thesis.constants.ThesisCommentType;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.constants.UploadFileType;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.entity.ThesisComment;
+import de.tum.cit.aet.thesis.entity.ThesisFile;
+import de.tum.cit.aet.thesis.entity.ThesisProposal;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+import de.tum.cit.aet.thesis.repository.ThesisCommentRepository;
+import de.tum.cit.aet.thesis.repository.ThesisRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ThesisExportServiceTest {
+    @TempDir
+    private Path uploadLocation;
+
+    @Mock private ThesisRepository thesisRepository;
+    @Mock private ThesisCommentRepository thesisCommentRepository;
+    @Mock private ThesisService thesisService;
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private UploadService uploadService;
+    private ThesisExportService thesisExportService;
+
+    private record ArchiveEntry(int method, String content) {}
+
+    @BeforeEach
+    void setUp() {
+        uploadService = new UploadService(uploadLocation.toString(), new SimpleMeterRegistry());
+        thesisExportService = new ThesisExportService(
+                thesisRepository, thesisCommentRepository, thesisService, uploadService, entityManager, transactionManager, Duration.ofHours(6)
+        );
+    }
+
+    @Test
+    void exportThesis_WithFiles_StoresPdfsAndDeflatesOtherFiles() throws IOException {
+        Thesis thesis = createThesisWithFiles("Test Thesis");
+        ThesisComment comment = new ThesisComment();
+        comment.setId(UUID.randomUUID());
+        comment.setType(ThesisCommentType.ADVISOR);
+        comment.setUploadName("review.pdf");
+        comment.setFilename(store("review.pdf", "comment content"));
+        when(thesisCommentRepository.findCommentsWithFile(thesis.getId())).thenReturn(List.of(comment));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        thesisExportService.exportThesis(thesis, outputStream);
+
+        Map<String, ArchiveEntry> entries = readArchive(outputStream.toByteArray());
+        ThesisProposal proposal = thesis.getProposals().getFirst();
+        ThesisFile file = thesis.getFiles().getFirst();
+
+        assertEquals(3, entries.size());
+        assertEquals(new ArchiveEntry(ZipEntry.STORED, "proposal content"), entries.get("proposals/proposal_" + proposal.getId() + ".pdf"));
+        assertEquals(new ArchiveEntry(ZipEntry.DEFLATED, "thesis content"), entries.get("files/" + file.getId() + "_thesis.tex"));
+        assertEquals(new ArchiveEntry(ZipEntry.STORED, "comment content"), entries.get("comments/advisor/" + comment.getId() + "_review.pdf"));
+        verifyNoInteractions(thesisService);
+    }
+
+    @Test
+    void exportThesis_WithMissingFile_SkipsFile() throws IOException {
+        Thesis thesis = createThesisWithFiles("Test Thesis");
+        thesis.getFiles().getFirst().setFilename("a".repeat(64) + ".tex");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        thesisExportService.exportThesis(thesis, outputStream);
+
+        assertEquals(1, readArchive(outputStream.toByteArray()).size());
+    }
+
+    @Test
+    void exportTheses_WithMatchingTheses_WritesEveryThesisIntoOwnFolder() throws IOException {
+        Thesis first = createThesisWithFiles("First/Thesis");
+        Thesis second = createThesisWithFiles("Second Thesis");
+        Instant endsAfter = Instant.parse("2025-04-01T00:00:00Z");
+        Instant endsBefore = Instant.parse("2025-10-01T00:00:00Z");
+
+        when(thesisRepository.findExportThesisIds(Set.of(ThesisState.FINISHED), endsAfter, endsBefore))
+                .thenReturn(List.of(first.getId(), second.getId()));
+        when(thesisRepository.findById(first.getId())).thenReturn(Optional.of(first));
+        when(thesisRepository.findById(second.getId())).thenReturn(Optional.of(second));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        thesisExportService.exportTheses(Set.of(ThesisState.FINISHED), endsAfter, endsBefore, outputStream);
+
+        Set<String> folders = new HashSet<>();
+        for (String name : readArchive(outputStream.toByteArray()).keySet()) {
+            folders.add(name.substring(0, name.indexOf('/')));
+        }
+
+        assertEquals(Set.of("First_Thesis_" + first.getId(), "Second Thesis_" + second.getId()), folders);
+        verify(entityManager, times(2)).clear();
+    }
+
+    private Thesis createThesisWithFiles(String title) {
+        Thesis thesis = EntityMockFactory.createThesis(title);
+
+        ThesisProposal proposal = new ThesisProposal();
+        proposal.setId(UUID.randomUUID());
+        proposal.setProposalFilename(store("proposal.pdf", "proposal content"));
+        thesis.setProposals(List.of(proposal));
+
+        ThesisFile file = new ThesisFile();
+        file.setId(UUID.randomUUID());
+        file.setUploadName("thesis.tex");
+        file.setFilename(store("thesis.tex", "thesis content"));
+        thesis.setFiles(new ArrayList<>(List.of(file)));
+
+        return thesis;
+    }
+
+    private String store(String name, String content) {
+        return uploadService.store(
+                new MockMultipartFile("file", name, "application/octet-stream", content.getBytes(StandardCharsets.UTF_8)),
+                1024,
+                UploadFileType.ANY
+        );
+    }
+
+    private Map<String, ArchiveEntry> readArchive(byte[] archive) throws IOException {
+        Map<String, ArchiveEntry> entries = new HashMap<>();
+
+        try (ZipInputStream inputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+
+            while ((entry = inputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), new ArchiveEntry(entry.getMethod(), new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+        }
+
+        return entries;
+    }
+}
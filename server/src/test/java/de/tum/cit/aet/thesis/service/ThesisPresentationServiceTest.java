@@ -2,9 +2,11 @@ package de.tum.cit.aet.thesis.service;
 
 import jakarta.mail.internet.InternetAddress;
 import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.component.VEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -21,8 +23,12 @@ import de.tum.cit.aet.thesis.mock.EntityMockFactory;
 import de.tum.cit.aet.thesis.repository.ThesisPresentationInviteRepository;
 import de.tum.cit.aet.thesis.repository.ThesisPresentationRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
+import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.repository.projection.CalendarAttendeeProjection;
+import de.tum.cit.aet.thesis.repository.projection.CalendarPresentationProjection;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
@@ -38,6 +44,9 @@ class ThesisPresentationServiceTest {
     @Mock private ThesisPresentationRepository thesisPresentationRepository;
     @Mock private UserRepository userRepository;
     @Mock private ThesisPresentationInviteRepository thesisPresentationInviteRepository;
+    @Mock private ThesisRoleRepository thesisRoleRepository;
+    @Mock private ResponseCacheService responseCacheService;
+    @Mock private DashboardService dashboardService;
 
     private ThesisPresentationService presentationService;
     private User testUser;
@@ -56,7 +65,12 @@ class ThesisPresentationServiceTest {
                 clientHost,
                 applicationMail,
                 userRepository,
-                thesisPresentationInviteRepository
+                thesisPresentationInviteRepository,
+                thesisRoleRepository,
+                responseCacheService,
+                dashboardService,
+                Duration.ofDays(180),
+                Duration.ofDays(365)
         );
 
         testUser = EntityMockFactory.createUser("Test");
@@ -155,6 +169,7 @@ class ThesisPresentationServiceTest {
         assertEquals(testPresentation, result.getPresentations().getLast());
         verify(thesisPresentationRepository).save(any(ThesisPresentation.class));
         verify(thesisRepository).save(testThesis);
+        verify(dashboardService).invalidateTasks();
     }
 
     @Test
@@ -172,6 +187,29 @@ class ThesisPresentationServiceTest {
         );
     }
 
+    @Test
+    void schedulePresentation_WithStudentInvites_SavesInvitesInOneBatch() throws Exception {
+        when(userRepository.getNotificationEmails(Set.of("student"), "presentation-invitations"))
+                .thenReturn(List.of("student1@example.com", "student2@example.com"));
+        when(thesisPresentationRepository.save(any(ThesisPresentation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(thesisPresentationInviteRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(calendarService.createVEvent(anyString(), any())).thenReturn(new VEvent());
+
+        presentationService.schedulePresentation(
+                testPresentation,
+                false,
+                true,
+                List.of(new InternetAddress("invite@example.com"))
+        );
+
+        assertEquals(ThesisPresentationState.SCHEDULED, testPresentation.getState());
+        assertEquals(3, testPresentation.getInvites().size());
+        verify(thesisPresentationInviteRepository).saveAll(anyList());
+        verify(thesisPresentationInviteRepository, never()).save(any());
+        verify(userRepository, never()).getRoleMembers(any());
+        verify(mailingService).sendScheduledPresentationEmail(eq("CREATED"), eq(testPresentation), anyString());
+    }
+
     @Test
     void deletePresentation_WithScheduledPresentation_DeletesAndNotifies() {
         testPresentation.setState(ThesisPresentationState.SCHEDULED);
@@ -221,15 +259,49 @@ class ThesisPresentationServiceTest {
 
     @Test
     void getPresentationCalendar_ReturnsCalendarWithEvents() {
-        when(thesisPresentationRepository.findAllPresentations(anySet()))
-                .thenReturn(List.of(testPresentation));
+        CalendarPresentationProjection presentation = mock(CalendarPresentationProjection.class);
+        when(presentation.getPresentationId()).thenReturn(testPresentation.getId());
+        when(presentation.getThesisId()).thenReturn(testThesis.getId());
+        when(presentation.getTitle()).thenReturn("Test Thesis");
+        when(presentation.getScheduledAt()).thenReturn(testPresentation.getScheduledAt());
+
+        CalendarAttendeeProjection supervisor = createAttendee(testThesis.getId(), "supervisor@example.com");
+        CalendarAttendeeProjection invite = createAttendee(testPresentation.getId(), "guest@example.com");
+
+        when(thesisPresentationRepository.findCalendarPresentations(anySet(), any(), any()))
+                .thenReturn(List.of(presentation));
+        when(thesisRoleRepository.findCalendarAttendees(anyCollection())).thenReturn(List.of(supervisor));
+        when(thesisPresentationInviteRepository.findCalendarAttendees(anyCollection())).thenReturn(List.of(invite));
         when(calendarService.createVEvent(anyString(), any()))
-                .thenReturn(null);
+                .thenReturn(new VEvent());
 
         Calendar result = presentationService.getPresentationCalendar();
 
+        ArgumentCaptor<CalendarService.CalendarEvent> event = ArgumentCaptor.forClass(CalendarService.CalendarEvent.class);
+
         assertNotNull(result);
-        verify(calendarService).createVEvent(anyString(), any());
-        verify(thesisPresentationRepository).findAllPresentations(anySet());
+        verify(calendarService).createVEvent(eq(testPresentation.getId().toString()), event.capture());
+        assertEquals("supervisor@example.com", event.getValue().requiredAttendees().getFirst().getAddress());
+        assertEquals("guest@example.com", event.getValue().optionalAttendees().getFirst().getAddress());
+        verify(thesisPresentationRepository, never()).findById(any());
+    }
+
+    @Test
+    void getPresentationCalendar_WithoutPresentations_SkipsAttendeeQueries() {
+        when(thesisPresentationRepository.findCalendarPresentations(anySet(), any(), any())).thenReturn(List.of());
+
+        Calendar result = presentationService.getPresentationCalendar();
+
+        assertTrue(result.getComponents().isEmpty());
+        verifyNoInteractions(thesisRoleRepository, thesisPresentationInviteRepository);
+    }
+
+    private CalendarAttendeeProjection createAttendee(UUID id, String email) {
+        CalendarAttendeeProjection attendee = mock(CalendarAttendeeProjection.class);
+
+        when(attendee.getId()).thenReturn(id);
+        when(attendee.getEmail()).thenReturn(email);
+
+        return attendee;
     }
 }
\ No newline at end of file
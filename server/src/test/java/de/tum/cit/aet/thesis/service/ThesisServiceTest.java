@@ -35,6 +35,8 @@ class ThesisServiceTest {
     @Mock private ThesisPresentationService thesisPresentationService;
     @Mock private ThesisFeedbackRepository thesisFeedbackRepository;
     @Mock private ThesisFileRepository thesisFileRepository;
+    @Mock private DashboardService dashboardService;
+    @Mock private ResponseCacheService responseCacheService;
 
     private ThesisService thesisService;
     private User testUser;
@@ -46,7 +48,8 @@ class ThesisServiceTest {
                 thesisRoleRepository, thesisRepository, thesisStateChangeRepository,
                 userRepository, thesisProposalRepository, thesisAssessmentRepository,
                 uploadService, mailingService, accessManagementService,
-                thesisPresentationService, thesisFeedbackRepository, thesisFileRepository
+                thesisPresentationService, thesisFeedbackRepository, thesisFileRepository,
+                dashboardService, responseCacheService
         );
 
         testUser = EntityMockFactory.createUser("Test");
@@ -88,6 +91,7 @@ class ThesisServiceTest {
         verify(thesisRepository).save(any(Thesis.class));
         verify(mailingService).sendThesisCreatedEmail(any(), eq(result));
         verify(accessManagementService).addStudentGroup(eq(student));
+        verify(dashboardService, atLeastOnce()).invalidateTasks();
     }
 
     @Test
@@ -198,7 +202,7 @@ class ThesisServiceTest {
 
         when(thesisRepository.save(any(Thesis.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(thesisRepository.searchTheses(
-                any(), any(), any(), any(), any(), any()
+                any(), any(), any(), any(), any(), any(), any()
         )).thenReturn(new PageImpl<>(Collections.emptyList()));
 
         Thesis result = thesisService.completeThesis(testThesis);
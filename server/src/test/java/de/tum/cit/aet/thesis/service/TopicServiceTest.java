@@ -33,6 +33,12 @@ class TopicServiceTest {
     private TopicRoleRepository topicRoleRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ResponseCacheService responseCacheService;
+    @Mock
+    private EntityCacheService entityCacheService;
+    @Mock
+    private DashboardService dashboardService;
 
     private TopicService topicService;
     private User testUser;
@@ -43,7 +49,10 @@ class TopicServiceTest {
         topicService = new TopicService(
                 topicRepository,
                 topicRoleRepository,
-                userRepository
+                userRepository,
+                responseCacheService,
+                entityCacheService,
+                dashboardService
         );
 
         testUser = EntityMockFactory.createUserWithGroup("Test", "supervisor");
@@ -166,6 +175,7 @@ class TopicServiceTest {
         assertEquals("Updated Topic", result.getTitle());
         verify(topicRoleRepository).deleteByTopicId(testTopic.getId());
         verify(topicRepository).save(testTopic);
+        verify(entityCacheService).evictTopic(testTopic.getId());
     }
 
     @Test
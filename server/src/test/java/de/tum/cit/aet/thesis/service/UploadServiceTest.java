@@ -0,0 +1,203 @@
+package de.tum.cit.aet.thesis.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockMultipartFile;
+import de.tum.cit.aet.thesis.constants.UploadFileType;
+import de.tum.cit.aet.thesis.exception.UploadException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadServiceTest {
+    @TempDir
+    private Path uploadLocation;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UploadService uploadService;
+
+    @BeforeEach
+    void setUp() {
+        uploadService = new UploadService(uploadLocation.toString(), meterRegistry);
+    }
+
+    @Test
+    void store_WithValidFile_StoresFileUnderContentHash() throws IOException, NoSuchAlgorithmException {
+        byte[] content = "test content".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile file = new MockMultipartFile("file", "document.pdf", "application/pdf", content);
+
+        String filename = uploadService.store(file, 1024, UploadFileType.PDF);
+
+        String expectedHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertEquals(expectedHash + ".pdf", filename);
+        assertArrayEquals(content, Files.readAllBytes(
+                uploadLocation.resolve(expectedHash.substring(0, 2)).resolve(expectedHash.substring(2, 4)).resolve(filename)
+        ));
+        assertArrayEquals(content, uploadService.load(filename).getContentAsByteArray());
+        assertEquals(content.length, meterRegistry.get("upload_size").tag("type", "PDF").summary().totalAmount());
+    }
+
+    @Test
+    void store_WithDuplicateFile_ReusesExistingFileAndLeavesNoTempFiles() throws IOException {
+        byte[] content = "duplicate content".getBytes(StandardCharsets.UTF_8);
+
+        String first = uploadService.store(new MockMultipartFile("file", "a.pdf", "application/pdf", content), 1024, UploadFileType.PDF);
+        String second = uploadService.store(new MockMultipartFile("file", "b.pdf", "application/pdf", content), 1024, UploadFileType.PDF);
+
+        assertEquals(first, second);
+
+        try (Stream<Path> files = Files.walk(uploadLocation)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void store_WithTooLargeFile_ThrowsException() {
+        MockMultipartFile file = new MockMultipartFile("file", "document.pdf", "application/pdf", new byte[2048]);
+
+        assertThrows(UploadException.class, () -> uploadService.store(file, 1024, UploadFileType.PDF));
+    }
+
+    @Test
+    void store_WithDisallowedExtension_ThrowsException() {
+        MockMultipartFile file = new MockMultipartFile("file", "image.exe", "application/octet-stream", new byte[16]);
+
+        assertThrows(UploadException.class, () -> uploadService.store(file, 1024, UploadFileType.IMAGE));
+    }
+
+    @Test
+    void loadOrStore_WithSameKey_GeneratesOnce() throws IOException {
+        AtomicInteger generations = new AtomicInteger();
+
+        String first = uploadService.loadOrStore("assessment-1", "pdf", () -> {
+            generations.incrementAndGet();
+            return "generated".getBytes(StandardCharsets.UTF_8);
+        }).getContentAsString(StandardCharsets.UTF_8);
+        String second = uploadService.loadOrStore("assessment-1", "pdf", () -> {
+            generations.incrementAndGet();
+            return "regenerated".getBytes(StandardCharsets.UTF_8);
+        }).getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals(1, generations.get());
+        assertEquals("generated", first);
+        assertEquals("generated", second);
+    }
+
+    @Test
+    void loadOrStore_AfterCleanup_RegeneratesFile() {
+        uploadService.loadOrStore("assessment-1", "pdf", () -> new byte[]{1});
+
+        assertEquals(1, uploadService.deleteUnreferencedFiles(Set.of(), Instant.now().plusSeconds(60)));
+        assertDoesNotThrow(() -> uploadService.loadOrStore("assessment-1", "pdf", () -> new byte[]{1}));
+    }
+
+    @Test
+    void loadImage_WithLargePng_StoresResizedVariantOnce() throws IOException {
+        String avatar = storeImage("avatar.png", 800, 400, "png");
+
+        FileSystemResource first = uploadService.loadImage(avatar, 128);
+        FileSystemResource second = uploadService.loadImage(avatar, 128);
+        BufferedImage image = ImageIO.read(first.getFile());
+
+        assertEquals(first.getFile(), second.getFile());
+        assertTrue(first.getFilename().endsWith(".png"));
+        assertEquals(128, image.getWidth());
+        assertEquals(64, image.getHeight());
+    }
+
+    @Test
+    void loadImage_WithSmallJpeg_KeepsSizeAndFormat() throws IOException {
+        String avatar = storeImage("avatar.jpg", 32, 32, "jpg");
+
+        FileSystemResource variant = uploadService.loadImage(avatar, 64);
+
+        assertTrue(variant.getFilename().endsWith(".jpg"));
+        assertEquals(32, ImageIO.read(variant.getFile()).getWidth());
+    }
+
+    @Test
+    void loadImage_WithUnsupportedImage_ReturnsOriginal() {
+        String avatar = uploadService.store(new MockMultipartFile("file", "avatar.webp", "image/webp", new byte[]{1, 2, 3}), 1024, UploadFileType.IMAGE);
+        String broken = uploadService.store(new MockMultipartFile("file", "avatar.png", "image/png", new byte[]{1, 2, 3}), 1024, UploadFileType.IMAGE);
+
+        assertEquals(avatar, uploadService.loadImage(avatar, 64).getFilename());
+        assertEquals(broken, uploadService.loadImage(broken, 64).getFilename());
+    }
+
+    @Test
+    void migrateToShardedLayout_WithFlatFiles_MovesContentAddressedFiles() throws IOException {
+        String hash = "a".repeat(64);
+        Files.writeString(uploadLocation.resolve(hash + ".pdf"), "legacy content");
+        Files.writeString(uploadLocation.resolve("legacy-name.pdf"), "legacy content");
+
+        int migratedFiles = uploadService.migrateToShardedLayout();
+
+        assertEquals(1, migratedFiles);
+        assertFalse(Files.exists(uploadLocation.resolve(hash + ".pdf")));
+        assertTrue(Files.exists(uploadLocation.resolve("aa").resolve("aa").resolve(hash + ".pdf")));
+        assertEquals("legacy content", uploadService.load(hash + ".pdf").getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("legacy content", uploadService.load("legacy-name.pdf").getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void deleteUnreferencedFiles_WithOrphanedFile_DeletesOnlyOrphanedFile() {
+        String referenced = uploadService.store(new MockMultipartFile("file", "a.pdf", "application/pdf", new byte[]{1}), 1024, UploadFileType.PDF);
+        String orphaned = uploadService.store(new MockMultipartFile("file", "b.pdf", "application/pdf", new byte[]{2}), 1024, UploadFileType.PDF);
+
+        assertEquals(0, uploadService.deleteUnreferencedFiles(Set.of(referenced), Instant.now().minusSeconds(3600)));
+
+        int deletedFiles = uploadService.deleteUnreferencedFiles(Set.of(referenced), Instant.now().plusSeconds(60));
+
+        assertEquals(1, deletedFiles);
+        assertDoesNotThrow(() -> uploadService.load(referenced));
+        assertThrows(UploadException.class, () -> uploadService.load(orphaned));
+    }
+
+    @Test
+    void store_WithDuplicateOfOldOrphan_RefreshesModificationTime() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "a.pdf", "application/pdf", new byte[]{1});
+        String filename = uploadService.store(file, 1024, UploadFileType.PDF);
+        Files.setLastModifiedTime(uploadService.load(filename).getFile().toPath(), FileTime.from(Instant.now().minus(Duration.ofDays(7))));
+
+        uploadService.store(file, 1024, UploadFileType.PDF);
+
+        assertEquals(0, uploadService.deleteUnreferencedFiles(Set.of(), Instant.now().minus(Duration.ofDays(1))));
+        assertDoesNotThrow(() -> uploadService.load(filename));
+    }
+
+    @Test
+    void loadOrStore_WithOldExistingFile_RefreshesModificationTime() throws IOException {
+        FileSystemResource generated = uploadService.loadOrStore("key", "pdf", () -> new byte[]{1});
+        Files.setLastModifiedTime(generated.getFile().toPath(), FileTime.from(Instant.now().minus(Duration.ofDays(7))));
+
+        uploadService.loadOrStore("key", "pdf", () -> new byte[]{1});
+
+        assertEquals(0, uploadService.deleteUnreferencedFiles(Set.of(), Instant.now().minus(Duration.ofDays(1))));
+    }
+
+    private String storeImage(String name, int width, int height, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, outputStream);
+
+        return uploadService.store(new MockMultipartFile("file", name, "image/" + format, outputStream.toByteArray()), 1024 * 1024, UploadFileType.IMAGE);
+    }
+}
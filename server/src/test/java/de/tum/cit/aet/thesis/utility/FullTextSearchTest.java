@@ -0,0 +1,23 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullTextSearchTest {
+    @Test
+    void toPrefixQuery_WithMultipleTerms_CombinesPrefixTerms() {
+        assertEquals("machine:* & learning:*", FullTextSearch.toPrefixQuery("Machine  Learning"));
+    }
+
+    @Test
+    void toPrefixQuery_WithOperators_RemovesOperators() {
+        assertEquals("a:* & b:* & größe:*", FullTextSearch.toPrefixQuery("a & !b | (größe):*"));
+    }
+
+    @Test
+    void toPrefixQuery_WithoutTerms_ReturnsEmptyQuery() {
+        assertEquals("", FullTextSearch.toPrefixQuery("!?"));
+        assertNull(FullTextSearch.toPrefixQuery(null));
+    }
+}
@@ -0,0 +1,44 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+    @Test
+    void decode_WithEncodedCursor_ReturnsSamePosition() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2024-05-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_WithEmptyToken_ReturnsNull() {
+        assertNull(KeysetCursor.decode(""));
+        assertNull(KeysetCursor.decode(null));
+    }
+
+    @Test
+    void decode_WithInvalidToken_ThrowsException() {
+        assertThrows(ResourceInvalidParametersException.class, () -> KeysetCursor.decode("invalid"));
+    }
+
+    @Test
+    void nextCursor_WithFollowingSlice_EncodesLastElement() {
+        KeysetCursor first = new KeysetCursor(Instant.now(), UUID.randomUUID());
+        KeysetCursor last = new KeysetCursor(Instant.now(), UUID.randomUUID());
+
+        assertEquals(
+                last.encode(),
+                KeysetCursor.nextCursor(new SliceImpl<>(List.of(first, last), PageRequest.of(0, 2), true), cursor -> cursor)
+        );
+        assertNull(KeysetCursor.nextCursor(new SliceImpl<>(List.of(first, last), PageRequest.of(0, 2), false), cursor -> cursor));
+    }
+}
@@ -0,0 +1,131 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.DefaultTemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+import de.tum.cit.aet.thesis.service.MailOutboxService;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailBuilderTest {
+    private static final String SALUTATION = "<div th:fragment=\"main\"><p th:inline=\"text\">Dear [[${recipient.firstName}]],</p></div>";
+    private static final String TEMPLATE = "<div th:replace=\"~{fragments/salutation :: main}\"></div><p th:inline=\"text\">[[${topic}]]</p>";
+
+    @Mock
+    private MailConfig mailConfig;
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    private TemplateEngine templateEngine;
+    private TemplateEngine sharedTemplateEngine;
+
+    @BeforeEach
+    void setUp() {
+        DefaultTemplateResolver salutationResolver = new DefaultTemplateResolver();
+        salutationResolver.setOrder(1);
+        salutationResolver.setResolvablePatterns(Set.of("fragments/salutation"));
+        salutationResolver.setTemplate(SALUTATION);
+
+        StringTemplateResolver stringResolver = new StringTemplateResolver();
+        stringResolver.setOrder(2);
+
+        templateEngine = spy(new SpringTemplateEngine());
+        templateEngine.setTemplateResolvers(Set.of(salutationResolver, stringResolver));
+        sharedTemplateEngine = spy(RecipientTemplate.createSharedTemplateEngine(templateEngine));
+
+        when(mailConfig.getTemplateEngine()).thenReturn(templateEngine);
+        when(mailConfig.getSharedTemplateEngine()).thenReturn(sharedTemplateEngine);
+    }
+
+    @Test
+    void send_WithManyRecipients_RendersTemplateOnce() {
+        MailBuilder builder = new MailBuilder(mailConfig, "Subject", TEMPLATE);
+
+        for (int i = 0; i < 100; i++) {
+            builder.addPrimaryRecipient(EntityMockFactory.createUser("Student" + i));
+        }
+
+        builder.fillPlaceholder("topic", "Fish & Chips").send(mailOutboxService);
+
+        ArgumentCaptor<String> bodies = ArgumentCaptor.forClass(String.class);
+
+        verify(sharedTemplateEngine, times(1)).process(anyString(), any(IContext.class));
+        verify(templateEngine, never()).process(anyString(), any(IContext.class));
+        verify(mailOutboxService, times(100)).enqueue(eq("Subject"), bodies.capture(), anyList(), anyList(), anyList(), anyList());
+
+        assertEquals("<div><p>Dear Student42,</p></div><p>Fish &amp; Chips</p>", bodies.getAllValues().get(42));
+    }
+
+    @Test
+    void send_WithSpecialCharactersInRecipient_EscapesRecipientValues() {
+        User recipient = EntityMockFactory.createUser("Test");
+        recipient.setFirstName("<b>Anna</b>");
+
+        new MailBuilder(mailConfig, "Subject", TEMPLATE)
+                .addPrimaryRecipient(recipient)
+                .fillPlaceholder("topic", "Topic")
+                .send(mailOutboxService);
+
+        verify(mailOutboxService).enqueue(
+                eq("Subject"),
+                eq("<div><p>Dear &lt;b&gt;Anna&lt;/b&gt;,</p></div><p>Topic</p>"),
+                eq(List.of("test@example.com")),
+                anyList(),
+                anyList(),
+                anyList()
+        );
+    }
+
+    @Test
+    void send_WithRecipientCondition_RendersTemplatePerRecipient() {
+        User female = EntityMockFactory.createUser("Anna");
+        female.setGender("FEMALE");
+        User male = EntityMockFactory.createUser("Max");
+        male.setGender("MALE");
+
+        new MailBuilder(mailConfig, "Subject", "<p th:if=\"${recipient.gender == 'FEMALE'}\">Ms</p><p th:unless=\"${recipient.gender == 'FEMALE'}\">Mr</p>")
+                .addPrimaryRecipient(female)
+                .addPrimaryRecipient(male)
+                .send(mailOutboxService);
+
+        ArgumentCaptor<String> bodies = ArgumentCaptor.forClass(String.class);
+        verify(mailOutboxService, times(2)).enqueue(eq("Subject"), bodies.capture(), anyList(), anyList(), anyList(), anyList());
+
+        assertEquals(List.of("<p>Ms</p>", "<p>Mr</p>"), bodies.getAllValues());
+    }
+
+    @Test
+    void send_WithRecipientInUrl_EncodesRecipientValues() {
+        User recipient = EntityMockFactory.createUser("Test");
+        recipient.setFirstName("Anna Maria");
+
+        new MailBuilder(mailConfig, "Subject", "<a th:href=\"@{https://example.com/users/{name}(name=${recipient.firstName})}\">Profile</a>")
+                .addPrimaryRecipient(recipient)
+                .send(mailOutboxService);
+
+        verify(mailOutboxService).enqueue(
+                eq("Subject"),
+                eq("<a href=\"https://example.com/users/Anna%20Maria\">Profile</a>"),
+                eq(List.of("test@example.com")),
+                anyList(),
+                anyList(),
+                anyList()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PDFBuilderTest {
+    private PDFBuilder createBuilder(String summary) {
+        return new PDFBuilder("Assessment of \"Test Thesis\"")
+                .addData("Student", "Max Mustermann")
+                .addData("", "")
+                .addSection("Summary", summary)
+                .addSection("Grade Suggestion", "<p>1.0</p>");
+    }
+
+    @Test
+    void build_WithSections_CreatesPdf() {
+        byte[] pdf = createBuilder("<p>Great <strong>work</strong></p>").build();
+
+        assertTrue(new String(pdf, 0, 5, StandardCharsets.US_ASCII).startsWith("%PDF-"));
+    }
+
+    @Test
+    void build_InParallel_CreatesEveryPdf() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Callable<byte[]>> builds = IntStream.range(0, 16)
+                    .mapToObj(i -> (Callable<byte[]>) () -> createBuilder("<p>Summary " + i + "</p>").build())
+                    .toList();
+
+            for (Future<byte[]> build : executor.invokeAll(builds)) {
+                assertTrue(build.get().length > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getContentHash_WithSameContent_ReturnsSameHash() {
+        assertEquals(createBuilder("<p>Summary</p>").getContentHash(), createBuilder("<p>Summary</p>").getContentHash());
+        assertEquals(64, createBuilder("<p>Summary</p>").getContentHash().length());
+    }
+
+    @Test
+    void getContentHash_WithChangedContent_ReturnsDifferentHash() {
+        String hash = createBuilder("<p>Summary</p>").getContentHash();
+
+        assertNotEquals(hash, createBuilder("<p>Other Summary</p>").getContentHash());
+        assertNotEquals(
+                new PDFBuilder("Heading").addData("ab", "c").getContentHash(),
+                new PDFBuilder("Heading").addData("a", "bc").getContentHash()
+        );
+    }
+}